@@ -0,0 +1,84 @@
+package com.scalefocus.blogservice.benchmark;
+
+import com.scalefocus.blogservice.model.BlogPost;
+import com.scalefocus.blogservice.model.Tag;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+final class BenchmarkFixtures {
+
+    private static final String WORDS = "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor. ";
+
+    private static final String[] VOCABULARY = ("the of and to in is that for it as with was on be by this are at from or"
+            + " an have not but which they we can one all their more has been will if about when there so what would"
+            + " also other some time into only its new these two first any may could most after like over such how"
+            + " service request response database query index table column row page cache thread memory latency"
+            + " throughput performance spring java boot hibernate transaction connection pool server client tag post"
+            + " blog author summary text list filter result error exception test benchmark profile metric trace log"
+            + " user token security filter chain method class interface object value field record stream buffer"
+            + " writer reader json http status header body content length size limit timeout retry batch update"
+            + " delete insert select join where order group count sum average percentile histogram distribution"
+            + " because however therefore although while during before between through without against within"
+            + " simple small large fast slow better worse good bad high low early late easy hard common rare"
+            + " make take use find give tell work call try need feel become leave put mean keep let begin seem help"
+            + " show hear play run move live believe hold bring happen write provide sit stand lose pay meet include"
+            + " continue set learn change lead understand watch follow stop create speak read allow add spend grow")
+            .split(" ");
+
+    private BenchmarkFixtures() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    static String text(int length) {
+        StringBuilder text = new StringBuilder(length);
+        while (text.length() < length) {
+            text.append(WORDS);
+        }
+        text.setLength(length);
+        return text.toString();
+    }
+
+    /**
+     * English-like prose of the given length: seeded random sentences over a few hundred words, so it compresses
+     * about as well as real post bodies rather than as well as a repeated phrase.
+     */
+    static String prose(int length, long seed) {
+        Random random = new Random(seed);
+        StringBuilder text = new StringBuilder(length + 16);
+        while (text.length() < length) {
+            int words = 6 + random.nextInt(18);
+            for (int i = 0; i < words; i++) {
+                String word = VOCABULARY[(int) Math.min(VOCABULARY.length - 1, Math.abs(random.nextGaussian()) * VOCABULARY.length / 3)];
+                text.append(i == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+                text.append(i == words - 1 ? ". " : random.nextInt(12) == 0 ? ", " : " ");
+            }
+            if (random.nextInt(6) == 0) {
+                text.append("\n\n");
+            }
+        }
+        text.setLength(length);
+        return text.toString();
+    }
+
+    static List<Tag> tags(int count) {
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 12, 0);
+        List<Tag> tags = new ArrayList<>(count);
+        for (long i = 0; i < count; i++) {
+            tags.add(Tag.builder().tagId(i).tagName("tag-" + i).timeCreated(created).blogPosts(new ArrayList<>()).build());
+        }
+        return tags;
+    }
+
+    static BlogPost blogPost(long id, int textLength, int tagCount) {
+        return BlogPost.builder()
+                .blogId(id)
+                .title("Benchmark post " + id)
+                .text(text(textLength))
+                .author("benchmark")
+                .tags(tags(tagCount))
+                .build();
+    }
+}
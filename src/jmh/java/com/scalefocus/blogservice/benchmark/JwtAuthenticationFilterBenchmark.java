@@ -0,0 +1,78 @@
+package com.scalefocus.blogservice.benchmark;
+
+import com.scalefocus.blogservice.config.JwtAuthenticationFilter;
+import com.scalefocus.blogservice.dto.UserDetailsDto;
+import com.scalefocus.blogservice.service.implementation.AuthClient;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtAuthenticationFilter filter;
+
+    @Setup
+    public void setUp() {
+        filter = new JwtAuthenticationFilter(new StubAuthClient());
+    }
+
+    @Benchmark
+    public int publicGetRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/blogposts");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public int authenticatedWriteRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/api/blogposts/1");
+        request.addHeader("Authorization", "Bearer benchmark-token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, NO_OP_CHAIN);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response.getStatus();
+    }
+
+    /**
+     * Answers without any remote call, so the benchmark measures the filter itself rather than Mockito or HTTP.
+     */
+    private static final class StubAuthClient extends AuthClient {
+        private static final UserDetailsDto USER = new UserDetailsDto("benchmark", List.of("ROLE_USER"));
+
+        private StubAuthClient() {
+            super(null, null, null);
+        }
+
+        @Override
+        public boolean validateToken(String token) {
+            return true;
+        }
+
+        @Override
+        public UserDetailsDto getUserDetails(String token) {
+            return USER;
+        }
+    }
+}
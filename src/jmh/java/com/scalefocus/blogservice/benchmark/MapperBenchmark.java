@@ -0,0 +1,45 @@
+package com.scalefocus.blogservice.benchmark;
+
+import com.scalefocus.blogservice.dto.BlogPostDTO;
+import com.scalefocus.blogservice.dto.ResponseTagDTO;
+import com.scalefocus.blogservice.mapper.BlogPostMapper;
+import com.scalefocus.blogservice.model.BlogPost;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    @Param({"0", "5", "50"})
+    private int tagCount;
+
+    private final BlogPostMapper blogPostMapper = BlogPostMapper.INSTANCE;
+
+    private BlogPost blogPost;
+
+    @Setup
+    public void setUp() {
+        blogPost = BenchmarkFixtures.blogPost(1L, 2000, tagCount);
+    }
+
+    @Benchmark
+    public BlogPostDTO blogPostToBlogPostDTO() {
+        return blogPostMapper.blogPostToBlogPostDTO(blogPost);
+    }
+
+    @Benchmark
+    public List<ResponseTagDTO> tagsToTagDTOs() {
+        return blogPostMapper.tagsToTagDTOs(blogPost.getTags());
+    }
+}
@@ -0,0 +1,133 @@
+package com.scalefocus.blogservice.benchmark;
+
+import com.scalefocus.blogservice.BlogserviceApplication;
+import com.scalefocus.blogservice.model.BlogPost;
+import com.scalefocus.blogservice.model.Tag;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.jpa.HibernateHints;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the queries behind the listing, by-ID and tag GET paths in a read-write session and in a read-only one
+ * (read-only transaction, manual flush, read-only query hints) against H2. Run with {@code -prof gc} and compare
+ * {@code gc.alloc.rate.norm}, the bytes allocated per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadOnlySessionBenchmark {
+
+    private static final int POST_COUNT = 200;
+    private static final int TAG_COUNT = 20;
+    private static final int TAGS_PER_POST = 3;
+
+    @Param({"read-write", "read-only"})
+    private String session;
+
+    @Param({"20"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+
+    private EntityManager entityManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private boolean readOnly;
+
+    private Long blogPostId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BlogserviceApplication.class)
+                .run("--server.port=0", "--logging.level.root=WARN", "--spring.jpa.properties.hibernate.generate_statistics=false");
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        readOnly = session.equals("read-only");
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(readOnly);
+
+        TransactionTemplate seed = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        blogPostId = seed.execute(status -> {
+            List<Tag> tags = new ArrayList<>(TAG_COUNT);
+            for (int i = 0; i < TAG_COUNT; i++) {
+                Tag tag = Tag.builder().tagName("tag-" + i).build();
+                entityManager.persist(tag);
+                tags.add(tag);
+            }
+            BlogPost first = null;
+            for (int i = 0; i < POST_COUNT; i++) {
+                List<Tag> postTags = new ArrayList<>(TAGS_PER_POST);
+                for (int t = 0; t < TAGS_PER_POST; t++) {
+                    postTags.add(tags.get((i + t) % TAG_COUNT));
+                }
+                BlogPost post = BlogPost.builder()
+                        .title("Benchmark post " + i)
+                        .text(BenchmarkFixtures.prose(2000, i))
+                        .author("benchmark")
+                        .tags(postTags)
+                        .build();
+                entityManager.persist(post);
+                first = first == null ? post : first;
+            }
+            return first.getBlogId();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int listingPage() {
+        return transactionTemplate.execute(status -> {
+            List<BlogPost> posts = entityManager.createQuery("select b from BlogPost b order by b.blogId", BlogPost.class)
+                    .setHint(HibernateHints.HINT_READ_ONLY, readOnly)
+                    .setMaxResults(pageSize)
+                    .getResultList();
+            List<Object[]> tags = entityManager.createQuery(
+                            "select b.blogId, t from BlogPost b join b.tags t where b.blogId in :ids", Object[].class)
+                    .setParameter("ids", posts.stream().map(BlogPost::getBlogId).toList())
+                    .setHint(HibernateHints.HINT_READ_ONLY, readOnly)
+                    .getResultList();
+            return posts.size() + tags.size();
+        });
+    }
+
+    @Benchmark
+    public int postById() {
+        return transactionTemplate.execute(status -> entityManager.createQuery(
+                        "select b from BlogPost b left join fetch b.tags where b.blogId = :id", BlogPost.class)
+                .setParameter("id", blogPostId)
+                .setHint(HibernateHints.HINT_READ_ONLY, readOnly)
+                .getSingleResult()
+                .getTags()
+                .size());
+    }
+
+    @Benchmark
+    public int allTags() {
+        return transactionTemplate.execute(status -> entityManager.createQuery("select t from Tag t", Tag.class)
+                .setHint(HibernateHints.HINT_READ_ONLY, readOnly)
+                .getResultList()
+                .size());
+    }
+}
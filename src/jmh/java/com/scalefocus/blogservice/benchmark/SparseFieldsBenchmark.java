@@ -0,0 +1,134 @@
+package com.scalefocus.blogservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scalefocus.blogservice.BlogserviceApplication;
+import com.scalefocus.blogservice.model.BlogPost;
+import com.scalefocus.blogservice.model.Tag;
+import com.scalefocus.blogservice.service.implementation.BlogPostServiceImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads and serializes one listing page with all fields and with {@code ?fields=} subsets against H2. Setup prints
+ * the response bytes and SQL statements per page of each field set; add {@code -prof gc} for allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SparseFieldsBenchmark {
+
+    private static final int POST_COUNT = 200;
+    private static final int TAG_COUNT = 20;
+    private static final int TAGS_PER_POST = 3;
+
+    @Param({"all", "title,author", "title,author,tags", "title,text"})
+    private String fields;
+
+    @Param({"20"})
+    private int pageSize;
+
+    @Param({"2000"})
+    private int textLength;
+
+    private ConfigurableApplicationContext context;
+
+    private BlogPostServiceImpl blogPostService;
+
+    private ObjectMapper objectMapper;
+
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(BlogserviceApplication.class)
+                .run("--server.port=0", "--logging.level.root=WARN");
+        blogPostService = context.getBean(BlogPostServiceImpl.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        pageable = PageRequest.of(0, pageSize);
+        seed(SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class)));
+
+        Statistics statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        long statements = statistics.getPrepareStatementCount();
+        CountingOutputStream bytes = new CountingOutputStream();
+        objectMapper.writeValue(bytes, page());
+        System.out.printf("%nfields=%s: %d bytes and %d SQL statements per page of %d%n",
+                fields, bytes.count, statistics.getPrepareStatementCount() - statements, pageSize);
+    }
+
+    private void seed(EntityManager entityManager) {
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+            List<Tag> tags = new ArrayList<>(TAG_COUNT);
+            for (int i = 0; i < TAG_COUNT; i++) {
+                Tag tag = Tag.builder().tagName("tag-" + i).build();
+                entityManager.persist(tag);
+                tags.add(tag);
+            }
+            for (int i = 0; i < POST_COUNT; i++) {
+                List<Tag> postTags = new ArrayList<>(TAGS_PER_POST);
+                for (int t = 0; t < TAGS_PER_POST; t++) {
+                    postTags.add(tags.get((i + t) % TAG_COUNT));
+                }
+                entityManager.persist(BlogPost.builder()
+                        .title("Benchmark post " + i)
+                        .text(BenchmarkFixtures.prose(textLength, i))
+                        .author("benchmark")
+                        .tags(postTags)
+                        .build());
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void listingPage() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), page());
+    }
+
+    private Object page() {
+        return fields.equals("all")
+                ? blogPostService.getFilteredBlogPosts(null, null, null, null, pageable)
+                : blogPostService.getFilteredBlogPostFields(null, null, null, null, fields, pageable);
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
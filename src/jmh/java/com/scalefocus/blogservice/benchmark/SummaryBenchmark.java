@@ -0,0 +1,39 @@
+package com.scalefocus.blogservice.benchmark;
+
+import com.scalefocus.blogservice.service.implementation.BlogPostServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SummaryBenchmark {
+
+    @Param({"20", "2000", "200000"})
+    private int textLength;
+
+    @Param({"30"})
+    private int summaryLimit;
+
+    private final BlogPostServiceImpl blogPostService = new BlogPostServiceImpl(null, null, null, null, null, null);
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        text = BenchmarkFixtures.text(textLength);
+    }
+
+    @Benchmark
+    public String getSummary() {
+        return blogPostService.getSummary(text, summaryLimit);
+    }
+}
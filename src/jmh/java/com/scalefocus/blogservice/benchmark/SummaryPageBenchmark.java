@@ -0,0 +1,77 @@
+package com.scalefocus.blogservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scalefocus.blogservice.dto.BlogPostDTO;
+import com.scalefocus.blogservice.dto.SummaryText;
+import com.scalefocus.blogservice.model.BlogPost;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds and serializes one listing page with summaries; run with {@code -prof gc} to compare allocation per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SummaryPageBenchmark {
+
+    @Param({"20"})
+    private int pageSize;
+
+    @Param({"30", "200"})
+    private int summaryLimit;
+
+    @Param({"2000"})
+    private int textLength;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private List<BlogPost> posts;
+
+    @Setup
+    public void setUp() {
+        posts = new ArrayList<>(pageSize);
+        for (long i = 0; i < pageSize; i++) {
+            posts.add(BenchmarkFixtures.blogPost(i, textLength, 0));
+        }
+    }
+
+    @Benchmark
+    public void substringSummaries() throws IOException {
+        List<BlogPostDTO> content = new ArrayList<>(pageSize);
+        for (BlogPost post : posts) {
+            String text = post.getText();
+            String summary = text.length() > summaryLimit ? text.substring(0, summaryLimit - 4) + " ..." : text;
+            content.add(new BlogPostDTO(post.getBlogId(), post.getTitle(), summary, post.getAuthor(), List.of()));
+        }
+        write(content);
+    }
+
+    @Benchmark
+    public void summaryTextView() throws IOException {
+        List<BlogPostDTO> content = new ArrayList<>(pageSize);
+        for (BlogPost post : posts) {
+            content.add(new BlogPostDTO(post.getBlogId(), post.getTitle(), SummaryText.of(post.getText(), summaryLimit), post.getAuthor(), List.of()));
+        }
+        write(content);
+    }
+
+    private void write(List<BlogPostDTO> content) throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), new PageImpl<>(content, PageRequest.of(0, pageSize), 100));
+    }
+}
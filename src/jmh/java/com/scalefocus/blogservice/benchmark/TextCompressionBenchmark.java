@@ -0,0 +1,76 @@
+package com.scalefocus.blogservice.benchmark;
+
+import com.scalefocus.blogservice.config.TextCompressionProperties;
+import com.scalefocus.blogservice.model.converters.CompressedTextConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.unit.DataSize;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write and read cost of the stored post text with compression on and off; the storage saved per body size is
+ * printed when each trial starts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TextCompressionBenchmark {
+
+    @Param({"2000", "16384", "262144"})
+    private int textLength;
+
+    @Param({"1", "6"})
+    private int level;
+
+    private String text;
+
+    private CompressedTextConverter plainConverter;
+
+    private CompressedTextConverter compressingConverter;
+
+    private byte[] plainColumn;
+
+    private byte[] compressedColumn;
+
+    @Setup
+    public void setUp() {
+        text = BenchmarkFixtures.prose(textLength, 42);
+        plainConverter = new CompressedTextConverter(new TextCompressionProperties());
+        TextCompressionProperties compression = new TextCompressionProperties();
+        compression.setEnabled(true);
+        compression.setMinSize(DataSize.ofBytes(0));
+        compression.setLevel(level);
+        compressingConverter = new CompressedTextConverter(compression);
+        plainColumn = plainConverter.convertToDatabaseColumn(text);
+        compressedColumn = compressingConverter.convertToDatabaseColumn(text);
+        System.out.printf("%ntextLength=%d level=%d plain=%d bytes compressed=%d bytes (%.1f%% saved)%n", textLength, level,
+                plainColumn.length, compressedColumn.length, 100.0 * (plainColumn.length - compressedColumn.length) / plainColumn.length);
+    }
+
+    @Benchmark
+    public byte[] writePlain() {
+        return plainConverter.convertToDatabaseColumn(text);
+    }
+
+    @Benchmark
+    public byte[] writeCompressed() {
+        return compressingConverter.convertToDatabaseColumn(text);
+    }
+
+    @Benchmark
+    public String readPlain() {
+        return plainConverter.convertToEntityAttribute(plainColumn);
+    }
+
+    @Benchmark
+    public String readCompressed() {
+        return compressingConverter.convertToEntityAttribute(compressedColumn);
+    }
+}
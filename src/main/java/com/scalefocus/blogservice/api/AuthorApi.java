@@ -0,0 +1,28 @@
+package com.scalefocus.blogservice.api;
+
+import com.scalefocus.blogservice.dto.AuthorPostsDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@Tag(name = "Authors", description = "Operations related to blog post authors")
+@Validated
+public interface AuthorApi {
+
+    @Operation(summary = "Get the posts of an author, newest first, with keyset pagination")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved the author's posts",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = AuthorPostsDTO.class)))
+    @GetMapping("/{username}/posts")
+    AuthorPostsDTO getAuthorPosts(@PathVariable String username,
+                                  @RequestParam(required = false) Long before,
+                                  @RequestParam(defaultValue = "20") @Min(value = 1, message = "size must be at least 1") @Max(value = 100, message = "size must be at most 100") int size,
+                                  @RequestParam(defaultValue = "${blogpost.summary.limit}") @Min(value = 5, message = "summaryLimit must be at least 5") int summaryLimit);
+}
@@ -1,6 +1,9 @@
 package com.scalefocus.blogservice.api;
 
+import com.scalefocus.blogservice.dto.BlogPostBatchDTO;
+import com.scalefocus.blogservice.dto.BlogPostBatchRequestDTO;
 import com.scalefocus.blogservice.dto.BlogPostDTO;
+import com.scalefocus.blogservice.dto.BlogPostFieldsDTO;
 import com.scalefocus.blogservice.dto.CreateBlogPostDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,6 +18,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "BlogPosts", description = "Operations related to blog posts")
 @Validated
 public interface BlogPostApi {
@@ -25,8 +30,34 @@ public interface BlogPostApi {
     Page<BlogPostDTO> getBlogPosts(@RequestParam(required = false) @Min(value = 5, message = "summaryLimit must be at least 5") Integer summaryLimit,
                                    @RequestParam(required = false) String tag,
                                    @RequestParam(required = false) String parity,
+                                   @RequestParam(required = false) String author,
                                    Pageable pageable);
 
+    @Operation(summary = "Get only the requested fields of blog posts, e.g. fields=title,author,tags")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved the requested fields of the blog posts")
+    @ApiResponse(responseCode = "400", description = "Unknown field requested")
+    @GetMapping(params = {"fields", "!ids"})
+    Page<BlogPostFieldsDTO> getBlogPostFields(@RequestParam String fields,
+                                              @RequestParam(required = false) @Min(value = 5, message = "summaryLimit must be at least 5") Integer summaryLimit,
+                                              @RequestParam(required = false) String tag,
+                                              @RequestParam(required = false) String parity,
+                                              @RequestParam(required = false) String author,
+                                              Pageable pageable);
+
+    @Operation(summary = "Get many blog posts by ID in one call, e.g. ids=1,2,3")
+    @ApiResponse(responseCode = "200", description = "Posts in the requested order and the IDs that were not found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = BlogPostBatchDTO.class)))
+    @ApiResponse(responseCode = "400", description = "No IDs or more IDs than allowed")
+    @GetMapping(params = "ids")
+    ResponseEntity<BlogPostBatchDTO> getBlogPostsByIds(@RequestParam List<Long> ids);
+
+    @Operation(summary = "Get many blog posts by ID in one call, for ID sets too long for a query string")
+    @ApiResponse(responseCode = "200", description = "Posts in the requested order and the IDs that were not found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = BlogPostBatchDTO.class)))
+    @ApiResponse(responseCode = "400", description = "No IDs or more IDs than allowed")
+    @PostMapping("/lookup")
+    ResponseEntity<BlogPostBatchDTO> lookupBlogPosts(@Valid @RequestBody BlogPostBatchRequestDTO request);
+
     @Operation(summary = "Get a blog post by ID")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved the blog post",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = BlogPostDTO.class)))
@@ -34,6 +65,14 @@ public interface BlogPostApi {
     @GetMapping("/{id}")
     ResponseEntity<BlogPostDTO> getBlogPostById(@PathVariable Long id);
 
+    @Operation(summary = "Get only the requested fields of a blog post, e.g. fields=title,author")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved the requested fields of the blog post",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = BlogPostFieldsDTO.class)))
+    @ApiResponse(responseCode = "400", description = "Unknown field requested")
+    @ApiResponse(responseCode = "404", description = "Blog post not found")
+    @GetMapping(value = "/{id}", params = "fields")
+    ResponseEntity<BlogPostFieldsDTO> getBlogPostFieldsById(@PathVariable Long id, @RequestParam String fields);
+
     @Operation(summary = "Create a new blog post")
     @ApiResponse(responseCode = "200", description = "Successfully created the blog post",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = BlogPostDTO.class)))
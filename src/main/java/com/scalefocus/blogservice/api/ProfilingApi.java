@@ -0,0 +1,42 @@
+package com.scalefocus.blogservice.api;
+
+import com.scalefocus.blogservice.dto.RecordingStatusDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Tag(name = "Profiling", description = "Java Flight Recorder recordings of the running service")
+@Validated
+public interface ProfilingApi {
+
+    @Operation(summary = "Start a bounded JFR recording")
+    @ApiResponse(responseCode = "200", description = "Successfully started the recording",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = RecordingStatusDTO.class)))
+    @ApiResponse(responseCode = "409", description = "A recording is already active")
+    @PostMapping
+    ResponseEntity<RecordingStatusDTO> startRecording(@RequestHeader("Authorization") String authHeader,
+                                                      @RequestParam(defaultValue = "300") @Min(value = 1, message = "maxDurationSeconds must be at least 1")
+                                                      @Max(value = 1800, message = "maxDurationSeconds must be at most 1800") long maxDurationSeconds,
+                                                      @RequestParam(defaultValue = "100") @Min(value = 1, message = "maxSizeMegabytes must be at least 1")
+                                                      @Max(value = 512, message = "maxSizeMegabytes must be at most 512") long maxSizeMegabytes);
+
+    @Operation(summary = "Get the state of the active JFR recording")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved the recording state")
+    @ApiResponse(responseCode = "409", description = "No recording is active")
+    @GetMapping
+    ResponseEntity<RecordingStatusDTO> getRecordingStatus(@RequestHeader("Authorization") String authHeader);
+
+    @Operation(summary = "Stop the active JFR recording and download it")
+    @ApiResponse(responseCode = "200", description = "Successfully stopped the recording", content = @Content(mediaType = "application/octet-stream"))
+    @ApiResponse(responseCode = "409", description = "No recording is active")
+    @PostMapping("/stop")
+    ResponseEntity<StreamingResponseBody> stopRecording(@RequestHeader("Authorization") String authHeader);
+}
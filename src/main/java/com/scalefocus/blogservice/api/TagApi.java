@@ -1,6 +1,9 @@
 package com.scalefocus.blogservice.api;
 
+import com.scalefocus.blogservice.dto.BulkTaggingDTO;
+import com.scalefocus.blogservice.dto.BulkTaggingRequestDTO;
 import com.scalefocus.blogservice.dto.ResponseTagDTO;
+import com.scalefocus.blogservice.dto.TagMergeDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -37,7 +40,30 @@ public interface TagApi {
     @ApiResponse(responseCode = "204", description = "Successfully deleted the tag")
     @DeleteMapping()
     ResponseEntity<?> deleteTag(@RequestHeader("Authorization") String authHeader, @RequestParam @NotNull @NotBlank String tagName);
-}
 
+    @Operation(summary = "Merge a tag into another one, moving all of its posts")
+    @ApiResponse(responseCode = "200", description = "Successfully merged the tags",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = TagMergeDTO.class)))
+    @ApiResponse(responseCode = "404", description = "One of the tags not found")
+    @PostMapping("/merge")
+    ResponseEntity<TagMergeDTO> mergeTags(@RequestHeader("Authorization") String authHeader,
+                                          @RequestParam @NotBlank String from,
+                                          @RequestParam @NotBlank String to);
 
+    @Operation(summary = "Tag many posts at once, by ID or by the listing filters")
+    @ApiResponse(responseCode = "200", description = "Successfully tagged the posts, with the outcome for every post",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkTaggingDTO.class)))
+    @PostMapping("/{tagName}/posts")
+    ResponseEntity<BulkTaggingDTO> tagBlogPosts(@RequestHeader("Authorization") String authHeader,
+                                                @PathVariable @Size(max = 50, message = "Tag name must be at most 50 characters long") String tagName,
+                                                @RequestBody BulkTaggingRequestDTO request);
 
+    @Operation(summary = "Untag many posts at once, by ID or by the listing filters")
+    @ApiResponse(responseCode = "200", description = "Successfully untagged the posts, with the outcome for every post",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkTaggingDTO.class)))
+    @ApiResponse(responseCode = "404", description = "Tag not found")
+    @DeleteMapping("/{tagName}/posts")
+    ResponseEntity<BulkTaggingDTO> untagBlogPosts(@RequestHeader("Authorization") String authHeader,
+                                                  @PathVariable String tagName,
+                                                  @RequestBody BulkTaggingRequestDTO request);
+}
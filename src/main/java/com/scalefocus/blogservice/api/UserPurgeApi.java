@@ -0,0 +1,41 @@
+package com.scalefocus.blogservice.api;
+
+import com.scalefocus.blogservice.dto.UserPurgeJobDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "User purges", description = "Background deletion of the posts of deleted users")
+@Validated
+public interface UserPurgeApi {
+
+    @Operation(summary = "Get the user purge jobs, newest first, with keyset pagination")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved the purge jobs")
+    @GetMapping
+    ResponseEntity<List<UserPurgeJobDTO>> getJobs(@RequestHeader("Authorization") String authHeader,
+                                                  @RequestParam(required = false) Long before,
+                                                  @RequestParam(defaultValue = "20") @Min(value = 1, message = "size must be at least 1") @Max(value = 100, message = "size must be at most 100") int size);
+
+    @Operation(summary = "Get the progress of a user purge job")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved the purge job",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = UserPurgeJobDTO.class)))
+    @ApiResponse(responseCode = "404", description = "Purge job not found")
+    @GetMapping("/{jobId}")
+    ResponseEntity<UserPurgeJobDTO> getJob(@RequestHeader("Authorization") String authHeader, @PathVariable Long jobId);
+
+    @Operation(summary = "Purge the posts of a user, or resume the unfinished purge of that user")
+    @ApiResponse(responseCode = "202", description = "Successfully scheduled the purge job",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = UserPurgeJobDTO.class)))
+    @PostMapping
+    ResponseEntity<UserPurgeJobDTO> schedulePurge(@RequestHeader("Authorization") String authHeader, @RequestParam @NotBlank String username);
+}
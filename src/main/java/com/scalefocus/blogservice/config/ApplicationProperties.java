@@ -6,6 +6,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @RequiredArgsConstructor
 @Setter
@@ -29,6 +31,10 @@ public class ApplicationProperties {
     @NotBlank
     private String deleteUserPath;
 
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    private Duration readTimeout = Duration.ofSeconds(5);
+
     public String getLoginPath() {
         return baseUrl + loginPath;
     }
@@ -49,4 +55,12 @@ public class ApplicationProperties {
         return baseUrl + userDetailsPath;
     }
 
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
 }
@@ -0,0 +1,23 @@
+package com.scalefocus.blogservice.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "blog.posts")
+public class BlogPostProperties {
+    /**
+     * Most posts a single multi-get call may ask for.
+     */
+    @Min(1)
+    @Max(1000)
+    private int batchMaxIds = 100;
+}
@@ -0,0 +1,42 @@
+package com.scalefocus.blogservice.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "blog.existence-filters")
+public class ExistenceFilterProperties {
+    /**
+     * Whether lookups of unknown post IDs are answered from the in-memory Bloom filter.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Chance that an absent post ID still goes to the database.
+     */
+    @DecimalMin("0.0001")
+    @DecimalMax("0.5")
+    private double falsePositiveProbability = 0.01;
+
+    /**
+     * Smallest number of entries a filter is sized for; filters are sized for twice the current rows otherwise.
+     */
+    @Min(1000)
+    private int minExpectedEntries = 100_000;
+
+    /**
+     * Pause between two rebuilds, which pick up tags created by other instances and drop deleted rows.
+     */
+    private Duration rebuildInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,232 @@
+package com.scalefocus.blogservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scalefocus.blogservice.dto.UserDetailsDto;
+import com.scalefocus.blogservice.exceptions.IdempotencyKeyInUseException;
+import com.scalefocus.blogservice.exceptions.IdempotencyKeyMismatchException;
+import com.scalefocus.blogservice.exceptions.response.ErrorResponse;
+import com.scalefocus.blogservice.service.implementation.IdempotencyStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
+
+/**
+ * Makes the post and tag write endpoints safe to retry. A request sent with an {@value #IDEMPOTENCY_KEY_HEADER}
+ * header runs once per user and key: repeating it returns the stored response marked with
+ * {@value #REPLAYED_HEADER}, a duplicate sent while the first one runs waits for its response, and reusing the key
+ * for a different request is rejected with 422. Only successful responses are stored, a failed request releases its
+ * key. Runs after the security filter chain, so keys are scoped to the authenticated user.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private static final List<RequestMatcher> IDEMPOTENT_WRITES = List.of(
+            antMatcher(HttpMethod.POST, "/api/blogposts"),
+            antMatcher(HttpMethod.POST, "/api/blogposts/*/tags"),
+            antMatcher(HttpMethod.DELETE, "/api/blogposts/*/tags"),
+            antMatcher(HttpMethod.POST, "/api/tags/create-tag"),
+            antMatcher(HttpMethod.DELETE, "/api/tags"),
+            antMatcher(HttpMethod.POST, "/api/tags/merge"),
+            antMatcher(HttpMethod.POST, "/api/tags/*/posts"),
+            antMatcher(HttpMethod.DELETE, "/api/tags/*/posts"));
+
+    private final ObjectProvider<IdempotencyStore> idempotencyStore;
+
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyFilter(ObjectProvider<IdempotencyStore> idempotencyStore, ObjectMapper objectMapper) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || IDEMPOTENT_WRITES.stream().noneMatch(matcher -> matcher.matches(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        IdempotencyStore store = idempotencyStore.getIfAvailable();
+        String username = username(SecurityContextHolder.getContext().getAuthentication());
+        if (store == null || username == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST,
+                    String.format("%s must be between 1 and %d characters long", IDEMPOTENCY_KEY_HEADER, MAX_KEY_LENGTH));
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        IdempotencyStore.Claim claim;
+        try {
+            claim = store.claim(username, key, cachedRequest.hash());
+        } catch (IdempotencyKeyMismatchException e) {
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
+            return;
+        } catch (IdempotencyKeyInUseException e) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            writeError(response, HttpStatus.CONFLICT, e.getMessage());
+            return;
+        }
+
+        IdempotencyStore.StoredResponse replay = claim.getReplay();
+        if (replay != null) {
+            logger.debug("Replaying the response for idempotency key {} of user {}", key, username);
+            response.setStatus(replay.status());
+            if (replay.contentType() != null) {
+                response.setContentType(replay.contentType());
+            }
+            response.setHeader(REPLAYED_HEADER, "true");
+            response.setContentLength(replay.body().length);
+            response.getOutputStream().write(replay.body());
+            return;
+        }
+
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(cachedRequest, cachingResponse);
+            if (HttpStatusCode.valueOf(cachingResponse.getStatus()).is2xxSuccessful()) {
+                store.complete(claim, cachingResponse.getStatus(), cachingResponse.getContentType(),
+                        cachingResponse.getContentAsByteArray());
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.release(claim);
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private static String username(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getPrincipal() instanceof UserDetailsDto userDetails
+                ? userDetails.getUsername()
+                : authentication.getName();
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(message, LocalDateTime.now()));
+    }
+
+    /**
+     * Reads the body up front so it can be hashed and still be read again by the controller.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final Map<String, String[]> parameters;
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            // parameters first, a form body is consumed while they are parsed
+            this.parameters = new TreeMap<>(request.getParameterMap());
+            this.body = StreamUtils.copyToByteArray(request.getInputStream());
+        }
+
+        private String hash() {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                digest.update((getMethod() + ' ' + getRequestURI() + '\n').getBytes(StandardCharsets.UTF_8));
+                parameters.forEach((name, values) ->
+                        digest.update((name + '=' + String.join(",", values) + '\n').getBytes(StandardCharsets.UTF_8)));
+                digest.update(body);
+                return HexFormat.of().formatHex(digest.digest());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException("Cached request bodies are read synchronously");
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.scalefocus.blogservice.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "blog.idempotency")
+public class IdempotencyProperties {
+    /**
+     * How long a completed response is replayed for its key.
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * How long a key stays claimed by a request that has not finished, a crashed instance releases its keys after this.
+     */
+    private Duration claimTimeout = Duration.ofMinutes(1);
+
+    /**
+     * How long a duplicate waits for the request holding its key before it is answered with 409.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Responses larger than this are stored without their body, duplicates get the status with an empty body.
+     */
+    private DataSize maxResponseSize = DataSize.ofKilobytes(64);
+
+    /**
+     * Completed responses kept in memory in front of the table.
+     */
+    @Min(0)
+    @Max(1_000_000)
+    private int cacheMaxEntries = 10_000;
+
+    /**
+     * Pause between two sweeps deleting expired keys.
+     */
+    private Duration purgeInterval = Duration.ofMinutes(10);
+
+    @Min(1)
+    @Max(50_000)
+    private int purgeBatchSize = 5_000;
+}
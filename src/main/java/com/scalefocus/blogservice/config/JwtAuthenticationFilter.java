@@ -61,7 +61,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private boolean shouldSkipFilter(HttpServletRequest request, String requestURI) {
         return requestURI.startsWith("/h2-console") ||
                 (request.getMethod().equals("GET") && requestURI.startsWith("/api/") && !requestURI.contains("admin")) ||
-                "/api/blogposts/login".equals(requestURI);
+                (request.getMethod().equals("GET") && requestURI.startsWith("/actuator/")) ||
+                "/api/blogposts/login".equals(requestURI) ||
+                (request.getMethod().equals("POST") && "/api/blogposts/lookup".equals(requestURI));
     }
 
 }
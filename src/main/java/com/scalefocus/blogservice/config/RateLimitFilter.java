@@ -0,0 +1,111 @@
+package com.scalefocus.blogservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scalefocus.blogservice.dto.UserDetailsDto;
+import com.scalefocus.blogservice.exceptions.response.ErrorResponse;
+import com.scalefocus.blogservice.service.implementation.RateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limits the service with the token buckets of {@link RateLimiter}, in two stages. The address stage sits before
+ * {@link JwtAuthenticationFilter} and counts every request per client address, so floods of invalid tokens are cut
+ * off before they reach the auth service. The client stage sits right after it and counts API calls per user, or per
+ * address when anonymous, with separate read and write budgets. A request finding its bucket empty gets a 429 with
+ * the whole seconds until the next token in {@code Retry-After}. Behind a proxy set
+ * {@code server.forward-headers-strategy} so the client address is the caller's and not the proxy's.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final RateLimiter rateLimiter;
+
+    private final ObjectMapper objectMapper;
+
+    private final boolean perAddress;
+
+    private RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper, boolean perAddress) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.perAddress = perAddress;
+    }
+
+    /**
+     * Counts every request against the address budget of its client address, before anything else runs.
+     */
+    public static RateLimitFilter perAddress(RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        return new RateLimitFilter(rateLimiter, objectMapper, true);
+    }
+
+    /**
+     * Counts API calls against the read and write budgets of the authenticated user or the client address.
+     */
+    public static RateLimitFilter perClient(RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        return new RateLimitFilter(rateLimiter, objectMapper, false);
+    }
+
+    // both stages are this class, by default the second would take the request as filtered already
+    @Override
+    protected String getAlreadyFilteredAttributeName() {
+        return super.getAlreadyFilteredAttributeName() + (perAddress ? ".address" : ".client");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !perAddress && !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String client = perAddress ? address(request) : client(request);
+        long waitNanos = rateLimiter.tryAcquire(client, perAddress ? RateLimiter.Budget.ADDRESS : budget(request));
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        logger.debug("Rate limit exceeded by {} on {} {}", client, request.getMethod(), request.getRequestURI());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+                String.format("Too many requests, retry after %d seconds", retryAfterSeconds), LocalDateTime.now()));
+    }
+
+    private static String client(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetailsDto userDetails) {
+            return "user:" + userDetails.getUsername();
+        }
+        return address(request);
+    }
+
+    private static String address(HttpServletRequest request) {
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static RateLimiter.Budget budget(HttpServletRequest request) {
+        String method = request.getMethod();
+        boolean read = HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)
+                || (HttpMethod.POST.matches(method) && "/api/blogposts/lookup".equals(request.getRequestURI()));
+        return read ? RateLimiter.Budget.READ : RateLimiter.Budget.WRITE;
+    }
+}
@@ -0,0 +1,71 @@
+package com.scalefocus.blogservice.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "blog.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+
+    /**
+     * Budget of every request from one client address, checked before the token is validated.
+     */
+    @Valid
+    private Budget address = new Budget(300, 100);
+
+    /**
+     * Budget of GET requests and multi-get lookups.
+     */
+    @Valid
+    private Budget read = new Budget(100, 50);
+
+    /**
+     * Budget of every other request, login included.
+     */
+    @Valid
+    private Budget write = new Budget(20, 5);
+
+    /**
+     * Buckets unused for this long are dropped; a dropped bucket comes back full, so keep it above the time an empty
+     * bucket takes to refill.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Most users and client addresses tracked per budget, the least recently used are dropped first.
+     */
+    @Min(100)
+    private int maxClients = 100_000;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Budget {
+        /**
+         * Requests a client may send in a burst.
+         */
+        @Min(1)
+        private int capacity;
+
+        /**
+         * Sustained requests per second.
+         */
+        @DecimalMin("0.001")
+        private double refillPerSecond;
+    }
+}
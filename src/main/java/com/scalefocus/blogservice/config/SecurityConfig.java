@@ -1,6 +1,10 @@
 package com.scalefocus.blogservice.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.scalefocus.blogservice.service.implementation.AuthClient;
+import com.scalefocus.blogservice.service.implementation.RateLimiter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -27,24 +31,34 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http,  HandlerMappingIntrospector introspector) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,  HandlerMappingIntrospector introspector,
+                                                   ObjectProvider<RateLimiter> rateLimiter, ObjectMapper objectMapper) throws Exception {
         MvcRequestMatcher h2RequestMatcher = new MvcRequestMatcher(introspector, "/**");
         h2RequestMatcher.setServletPath("/h2-console");
         http
                 .headers(httpSecurityHeadersConfigurer -> httpSecurityHeadersConfigurer.frameOptions(HeadersConfigurer.FrameOptionsConfig::disable))
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/**").permitAll()
                         .requestMatchers(h2RequestMatcher).permitAll()
                         .requestMatchers("/swagger-ui/**").permitAll()
                         .requestMatchers("/v3/api-docs/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health/**", "/actuator/info", "/actuator/prometheus").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/blogposts/login").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/blogposts/lookup").permitAll()
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .addFilterBefore(jwtAuthenticationFilter(authClient), UsernamePasswordAuthenticationFilter.class);
+        // per address before authentication, so rejected calls never reach the auth service, and per user after it
+        RateLimiter limiter = rateLimiter.getIfAvailable();
+        if (limiter != null && limiter.isEnabled()) {
+            http.addFilterBefore(RateLimitFilter.perAddress(limiter, objectMapper), JwtAuthenticationFilter.class);
+            http.addFilterAfter(RateLimitFilter.perClient(limiter, objectMapper), JwtAuthenticationFilter.class);
+        }
         return http.build();
     }
 
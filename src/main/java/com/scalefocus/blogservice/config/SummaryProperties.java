@@ -0,0 +1,28 @@
+package com.scalefocus.blogservice.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "blogpost.summary")
+public class SummaryProperties {
+    /**
+     * Longest summary that is served from the stored summary column, which is a VARCHAR(255).
+     */
+    @Min(5)
+    @Max(255)
+    private int limit = 30;
+
+    private boolean backfillOnStartup = true;
+
+    @Min(1)
+    private int backfillBatchSize = 500;
+}
@@ -0,0 +1,37 @@
+package com.scalefocus.blogservice.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "blog.tags")
+public class TagProperties {
+    /**
+     * Number of post links removed per transaction when a tag is deleted.
+     */
+    @Min(1)
+    @Max(50000)
+    private int unlinkBatchSize = 5000;
+
+    /**
+     * Number of posts tagged or untagged per transaction by the bulk tagging endpoints.
+     */
+    @Min(1)
+    @Max(5000)
+    private int bulkBatchSize = 500;
+
+    /**
+     * Most posts a single bulk tagging call may name or match.
+     */
+    @Min(1)
+    @Max(100000)
+    private int bulkMaxPosts = 1000;
+}
@@ -0,0 +1,33 @@
+package com.scalefocus.blogservice.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.zip.Deflater;
+
+@Component
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "blogpost.text.compression")
+public class TextCompressionProperties {
+    private boolean enabled = false;
+
+    /**
+     * Bodies smaller than this, in UTF-8, are always stored as plain text.
+     */
+    private DataSize minSize = DataSize.ofKilobytes(4);
+
+    /**
+     * Deflate level; the fastest level already saves most of the space on prose, see {@code TextCompressionBenchmark}.
+     */
+    @Min(Deflater.DEFAULT_COMPRESSION)
+    @Max(Deflater.BEST_COMPRESSION)
+    private int level = Deflater.BEST_SPEED;
+}
@@ -0,0 +1,28 @@
+package com.scalefocus.blogservice.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "blog.purge")
+public class UserPurgeProperties {
+    @Min(1)
+    @Max(5000)
+    private int batchSize = 500;
+
+    /**
+     * Minimum pause between two batches. The job also pauses at least as long as the last batch took, so it never
+     * keeps the database busy more than half of the time.
+     */
+    private Duration batchPause = Duration.ofMillis(100);
+}
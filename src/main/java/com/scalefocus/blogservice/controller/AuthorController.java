@@ -0,0 +1,35 @@
+package com.scalefocus.blogservice.controller;
+
+import com.scalefocus.blogservice.api.AuthorApi;
+import com.scalefocus.blogservice.dto.AuthorPostsDTO;
+import com.scalefocus.blogservice.service.implementation.BlogPostServiceImpl;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+@Validated
+@RequestMapping("/api/authors")
+public class AuthorController implements AuthorApi {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthorController.class);
+    private final BlogPostServiceImpl blogPostService;
+
+    @GetMapping("/{username}/posts")
+    public AuthorPostsDTO getAuthorPosts(@PathVariable String username,
+                                         @RequestParam(required = false) Long before,
+                                         @RequestParam(defaultValue = "20") @Min(value = 1, message = "size must be at least 1") @Max(value = 100, message = "size must be at most 100") int size,
+                                         @RequestParam(defaultValue = "${blogpost.summary.limit}") @Min(value = 5, message = "summaryLimit must be at least 5") int summaryLimit) {
+        logger.info("Fetching posts of author: {} before ID: {}", username, before);
+        return blogPostService.getAuthorPosts(username, before, size, summaryLimit);
+    }
+}
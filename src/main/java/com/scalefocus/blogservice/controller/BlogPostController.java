@@ -6,6 +6,8 @@ import com.scalefocus.blogservice.exceptions.InvalidTokenException;
 import com.scalefocus.blogservice.exceptions.response.ErrorResponse;
 import com.scalefocus.blogservice.service.implementation.AuthClient;
 import com.scalefocus.blogservice.service.implementation.BlogPostServiceImpl;
+import com.scalefocus.blogservice.service.implementation.ParallelCalls;
+import com.scalefocus.blogservice.service.implementation.UserPurgeServiceImpl;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +34,8 @@ public class BlogPostController implements BlogPostApi {
     private static final Logger logger = LoggerFactory.getLogger(BlogPostController.class);
     private final BlogPostServiceImpl blogPostService;
     private final AuthClient authClient;
+    private final ParallelCalls parallelCalls;
+    private final UserPurgeServiceImpl userPurgeService;
 
     @PostMapping("/login")
     public ResponseEntity<LoginResponse> login(@RequestBody LoginUserDto loginUserDto) {
@@ -52,10 +56,40 @@ public class BlogPostController implements BlogPostApi {
     public Page<BlogPostDTO> getBlogPosts(@RequestParam(required = false) @Min(value = 5, message = "summaryLimit must be at least 5") Integer summaryLimit,
                                           @RequestParam(required = false) String tag,
                                           @RequestParam(required = false) String parity,
+                                          @RequestParam(required = false) String author,
                                           Pageable pageable) {
 
-        logger.info("Fetching blog posts with filters - Tag: {}, Parity: {}, SummaryLimit: {}", tag, parity, summaryLimit);
-        return blogPostService.getFilteredBlogPosts(tag, parity, summaryLimit, pageable);
+        logger.info("Fetching blog posts with filters - Tag: {}, Parity: {}, Author: {}, SummaryLimit: {}", tag, parity, author, summaryLimit);
+        return blogPostService.getFilteredBlogPosts(tag, parity, author, summaryLimit, pageable);
+    }
+
+    @GetMapping(params = {"fields", "!ids"})
+    public Page<BlogPostFieldsDTO> getBlogPostFields(@RequestParam String fields,
+                                                     @RequestParam(required = false) @Min(value = 5, message = "summaryLimit must be at least 5") Integer summaryLimit,
+                                                     @RequestParam(required = false) String tag,
+                                                     @RequestParam(required = false) String parity,
+                                                     @RequestParam(required = false) String author,
+                                                     Pageable pageable) {
+        logger.info("Fetching blog post fields: {} with filters - Tag: {}, Parity: {}, Author: {}, SummaryLimit: {}", fields, tag, parity, author, summaryLimit);
+        return blogPostService.getFilteredBlogPostFields(tag, parity, author, summaryLimit, fields, pageable);
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<BlogPostBatchDTO> getBlogPostsByIds(@RequestParam List<Long> ids) {
+        logger.info("Fetching blog posts with IDs: {}", ids);
+        return ResponseEntity.ok(blogPostService.getBlogPostsByIds(ids));
+    }
+
+    @PostMapping("/lookup")
+    public ResponseEntity<BlogPostBatchDTO> lookupBlogPosts(@Valid @RequestBody BlogPostBatchRequestDTO request) {
+        logger.info("Looking up {} blog posts by ID", request.ids().size());
+        return ResponseEntity.ok(blogPostService.getBlogPostsByIds(request.ids()));
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<BlogPostFieldsDTO> getBlogPostFieldsById(@PathVariable Long id, @RequestParam String fields) {
+        logger.info("Fetching fields: {} of blog post with ID: {}", fields, id);
+        return ResponseEntity.ok(blogPostService.getBlogPostFieldsById(id, fields));
     }
 
     @GetMapping("/{id}")
@@ -82,10 +116,8 @@ public class BlogPostController implements BlogPostApi {
     public ResponseEntity<BlogPostDTO> updateBlogPost(@RequestHeader("Authorization") String authHeader, @PathVariable Long id, @RequestBody @Valid BlogPostDTO updatedBlogPostDTO) {
 
         String token = authClient.extractToken(authHeader);
-        BlogPostDTO existingBlogPostDTO = blogPostService.getBlogPostById(id);
-        String author = existingBlogPostDTO.getAuthor();
 
-        if(!authClient.canEditOrDeleteBlogPost(token,author)) {
+        if(!canEditOrDeleteBlogPost(token, id)) {
             logger.warn("User does not have permission to update this blog post.");
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
         }
@@ -115,10 +147,8 @@ public class BlogPostController implements BlogPostApi {
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteBlogPost(@RequestHeader("Authorization") String authHeader, @PathVariable Long id) {
         String token = authClient.extractToken(authHeader);
-        BlogPostDTO existingBlogPostDTO = blogPostService.getBlogPostById(id);
-        String author = existingBlogPostDTO.getAuthor();
 
-        if(!authClient.canEditOrDeleteBlogPost(token,author)) {
+        if(!canEditOrDeleteBlogPost(token, id)) {
             logger.warn("User does not have permission to delete this blog post.");
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(new ErrorResponse("User does not have permission to delete this blog post.", LocalDateTime.now()));
         }
@@ -144,7 +174,13 @@ public class BlogPostController implements BlogPostApi {
         String token = authHeader.substring(7);
         authClient.deleteUser(username, token);
         logger.info("Admin successfully deleted user with username: {}", username);
-        return ResponseEntity.noContent().build();
+        UserPurgeJobDTO purgeJob = userPurgeService.schedulePurge(username);
+        return ResponseEntity.noContent().location(UserPurgeController.jobLocation(purgeJob)).build();
     }
 
+    private boolean canEditOrDeleteBlogPost(String token, Long id) {
+        // the remote user lookup and the author lookup are independent, so neither waits for the other
+        return parallelCalls.both(() -> authClient.getUserDetails(token), () -> blogPostService.getBlogPostAuthor(id),
+                authClient::canEditOrDeleteBlogPost);
+    }
 }
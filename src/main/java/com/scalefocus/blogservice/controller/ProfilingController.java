@@ -0,0 +1,65 @@
+package com.scalefocus.blogservice.controller;
+
+import com.scalefocus.blogservice.api.ProfilingApi;
+import com.scalefocus.blogservice.dto.RecordingStatusDTO;
+import com.scalefocus.blogservice.service.implementation.ProfilingServiceImpl;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@RequiredArgsConstructor
+@RestController
+@Validated
+@PreAuthorize("hasRole('ROLE_ADMIN')")
+@RequestMapping("/api/admin/profiling/recordings")
+public class ProfilingController implements ProfilingApi {
+    private static final Logger logger = LoggerFactory.getLogger(ProfilingController.class);
+    private final ProfilingServiceImpl profilingService;
+
+    @PostMapping
+    public ResponseEntity<RecordingStatusDTO> startRecording(@RequestHeader("Authorization") String authHeader,
+                                                             @RequestParam(defaultValue = "300") @Min(value = 1, message = "maxDurationSeconds must be at least 1")
+                                                             @Max(value = 1800, message = "maxDurationSeconds must be at most 1800") long maxDurationSeconds,
+                                                             @RequestParam(defaultValue = "100") @Min(value = 1, message = "maxSizeMegabytes must be at least 1")
+                                                             @Max(value = 512, message = "maxSizeMegabytes must be at most 512") long maxSizeMegabytes) {
+        logger.info("Admin starting profiling recording for {} s, {} MB", maxDurationSeconds, maxSizeMegabytes);
+        return ResponseEntity.ok(profilingService.startRecording(Duration.ofSeconds(maxDurationSeconds), maxSizeMegabytes));
+    }
+
+    @GetMapping
+    public ResponseEntity<RecordingStatusDTO> getRecordingStatus(@RequestHeader("Authorization") String authHeader) {
+        return ResponseEntity.ok(profilingService.getRecordingStatus());
+    }
+
+    @PostMapping("/stop")
+    public ResponseEntity<StreamingResponseBody> stopRecording(@RequestHeader("Authorization") String authHeader) {
+        logger.info("Admin stopping profiling recording");
+        Path recordingFile = profilingService.stopRecording();
+
+        StreamingResponseBody body = outputStream -> {
+            try {
+                Files.copy(recordingFile, outputStream);
+            } finally {
+                Files.deleteIfExists(recordingFile);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(recordingFile.getFileName().toString()).build().toString())
+                .body(body);
+    }
+}
@@ -1,12 +1,16 @@
 package com.scalefocus.blogservice.controller;
 
 import com.scalefocus.blogservice.api.TagApi;
+import com.scalefocus.blogservice.dto.BulkTaggingDTO;
+import com.scalefocus.blogservice.dto.BulkTaggingRequestDTO;
 import com.scalefocus.blogservice.dto.ResponseTagDTO;
+import com.scalefocus.blogservice.dto.TagMergeDTO;
 import com.scalefocus.blogservice.service.implementation.AuthClient;
 import com.scalefocus.blogservice.service.implementation.TagServiceImpl;
 import jakarta.validation.constraints.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.slf4j.Logger;
@@ -54,4 +58,26 @@ public class TagController implements TagApi {
 
     }
 
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping("/merge")
+    public ResponseEntity<TagMergeDTO> mergeTags(@RequestHeader("Authorization") String authHeader,
+                                                 @RequestParam @NotBlank String from,
+                                                 @RequestParam @NotBlank String to) {
+        logger.info("Admin merging tag '{}' into '{}'", from, to);
+        return ResponseEntity.ok(tagService.mergeTags(from, to));
+    }
+
+    @PostMapping("/{tagName}/posts")
+    public ResponseEntity<BulkTaggingDTO> tagBlogPosts(@RequestHeader("Authorization") String authHeader,
+                                                       @PathVariable @Size(max = 50, message = "Tag name must be at most 50 characters long") String tagName,
+                                                       @RequestBody BulkTaggingRequestDTO request) {
+        return ResponseEntity.ok(tagService.tagBlogPosts(tagName, request));
+    }
+
+    @DeleteMapping("/{tagName}/posts")
+    public ResponseEntity<BulkTaggingDTO> untagBlogPosts(@RequestHeader("Authorization") String authHeader,
+                                                         @PathVariable String tagName,
+                                                         @RequestBody BulkTaggingRequestDTO request) {
+        return ResponseEntity.ok(tagService.untagBlogPosts(tagName, request));
+    }
 }
@@ -0,0 +1,53 @@
+package com.scalefocus.blogservice.controller;
+
+import com.scalefocus.blogservice.api.UserPurgeApi;
+import com.scalefocus.blogservice.dto.UserPurgeJobDTO;
+import com.scalefocus.blogservice.service.implementation.UserPurgeServiceImpl;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+@Validated
+@PreAuthorize("hasRole('ROLE_ADMIN')")
+@RequestMapping(UserPurgeController.BASE_PATH)
+public class UserPurgeController implements UserPurgeApi {
+    static final String BASE_PATH = "/api/admin/user-purges";
+
+    private static final Logger logger = LoggerFactory.getLogger(UserPurgeController.class);
+    private final UserPurgeServiceImpl userPurgeService;
+
+    @GetMapping
+    public ResponseEntity<List<UserPurgeJobDTO>> getJobs(@RequestHeader("Authorization") String authHeader,
+                                                         @RequestParam(required = false) Long before,
+                                                         @RequestParam(defaultValue = "20") @Min(value = 1, message = "size must be at least 1") @Max(value = 100, message = "size must be at most 100") int size) {
+        return ResponseEntity.ok(userPurgeService.getJobs(before, size));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<UserPurgeJobDTO> getJob(@RequestHeader("Authorization") String authHeader, @PathVariable Long jobId) {
+        return ResponseEntity.ok(userPurgeService.getJob(jobId));
+    }
+
+    @PostMapping
+    public ResponseEntity<UserPurgeJobDTO> schedulePurge(@RequestHeader("Authorization") String authHeader, @RequestParam @NotBlank String username) {
+        logger.info("Admin scheduling purge of the posts of user: {}", username);
+        UserPurgeJobDTO job = userPurgeService.schedulePurge(username);
+        return ResponseEntity.accepted().location(jobLocation(job)).body(job);
+    }
+
+    static URI jobLocation(UserPurgeJobDTO job) {
+        return URI.create(BASE_PATH + "/" + job.jobId());
+    }
+}
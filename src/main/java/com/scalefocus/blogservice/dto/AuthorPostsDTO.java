@@ -0,0 +1,10 @@
+package com.scalefocus.blogservice.dto;
+
+import java.util.List;
+
+/**
+ * One page of an author's posts, newest first. {@code nextBefore} is the {@code before} value of the next page and
+ * {@code null} on the last one.
+ */
+public record AuthorPostsDTO(String author, long postCount, List<BlogPostDTO> posts, Long nextBefore) {
+}
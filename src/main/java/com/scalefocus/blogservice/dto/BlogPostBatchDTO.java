@@ -0,0 +1,9 @@
+package com.scalefocus.blogservice.dto;
+
+import java.util.List;
+
+/**
+ * Posts found for a multi-get in the order their IDs were requested, and the requested IDs that do not exist.
+ */
+public record BlogPostBatchDTO(List<BlogPostDTO> posts, List<Long> missingIds) {
+}
@@ -0,0 +1,11 @@
+package com.scalefocus.blogservice.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * Post IDs to fetch in one call, for sets too long to fit a query string.
+ */
+public record BlogPostBatchRequestDTO(@NotEmpty(message = "ids must not be empty") List<Long> ids) {
+}
@@ -1,11 +1,18 @@
 package com.scalefocus.blogservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 
 import java.util.List;
@@ -28,6 +35,10 @@ public class BlogPostDTO {
 
     private String author;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private SummaryText summary;
+
     public BlogPostDTO(Long blogId, String title, String text, String author, List<ResponseTagDTO> responseTagDTOS) {
         this.blogId = blogId;
         this.title = title;
@@ -42,4 +53,29 @@ public class BlogPostDTO {
         this.text = text;
         this.tags = responseTagDTOS;
     }
+
+    public BlogPostDTO(Long blogId, String title, SummaryText summary, String author, List<ResponseTagDTO> responseTagDTOS) {
+        this.blogId = blogId;
+        this.title = title;
+        this.author = author;
+        this.summary = summary;
+        this.tags = responseTagDTOS;
+    }
+
+    @JsonIgnore
+    public String getText() {
+        return summary != null ? summary.toString() : text;
+    }
+
+    @JsonSetter("text")
+    public void setText(String text) {
+        this.text = text;
+        this.summary = null;
+    }
+
+    @JsonGetter("text")
+    @JsonSerialize(using = SummaryTextSerializer.class)
+    CharSequence textForJson() {
+        return summary != null ? summary : text;
+    }
 }
@@ -0,0 +1,45 @@
+package com.scalefocus.blogservice.dto;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Blog post fields a client can pick with {@code ?fields=}. {@code blogId} is always returned.
+ */
+public enum BlogPostField {
+    BLOG_ID("blogId"),
+    TITLE("title"),
+    TEXT("text"),
+    AUTHOR("author"),
+    TAGS("tags");
+
+    private final String fieldName;
+
+    BlogPostField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public static Set<BlogPostField> parse(String fields) {
+        Set<BlogPostField> parsed = EnumSet.of(BLOG_ID);
+        for (String name : fields.split(",")) {
+            String fieldName = name.trim();
+            if (!fieldName.isEmpty()) {
+                parsed.add(fromFieldName(fieldName));
+            }
+        }
+        return parsed;
+    }
+
+    private static BlogPostField fromFieldName(String fieldName) {
+        for (BlogPostField field : values()) {
+            if (field.fieldName.equals(fieldName)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field: " + fieldName + ". Supported fields are blogId, title, text, author and tags.");
+    }
+}
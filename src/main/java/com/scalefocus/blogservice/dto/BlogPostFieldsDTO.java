@@ -0,0 +1,17 @@
+package com.scalefocus.blogservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.util.List;
+
+/**
+ * Blog post carrying only the fields picked with {@code ?fields=}; the others are null and left out of the JSON.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BlogPostFieldsDTO(Long blogId,
+                                String title,
+                                @JsonSerialize(using = SummaryTextSerializer.class) CharSequence text,
+                                String author,
+                                List<ResponseTagDTO> tags) {
+}
@@ -0,0 +1,13 @@
+package com.scalefocus.blogservice.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk tag or untag, one entry per requested post. {@code changed} counts the posts that gained or lost
+ * the tag.
+ */
+public record BulkTaggingDTO(String tagName, int changed, List<PostOutcome> outcomes) {
+
+    public record PostOutcome(Long blogId, TaggingOutcome outcome) {
+    }
+}
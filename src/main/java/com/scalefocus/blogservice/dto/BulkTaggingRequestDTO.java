@@ -0,0 +1,13 @@
+package com.scalefocus.blogservice.dto;
+
+import java.util.List;
+
+/**
+ * Posts to tag or untag, either by ID or by the listing filters {@code tag} and {@code parity}, never both.
+ */
+public record BulkTaggingRequestDTO(List<Long> blogPostIds, String tag, String parity) {
+
+    public boolean hasFilter() {
+        return tag != null || parity != null;
+    }
+}
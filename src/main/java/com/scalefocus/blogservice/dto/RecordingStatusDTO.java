@@ -0,0 +1,6 @@
+package com.scalefocus.blogservice.dto;
+
+import java.time.Instant;
+
+public record RecordingStatusDTO(long recordingId, String state, Instant startTime, long maxDurationSeconds, long maxSizeMegabytes) {
+}
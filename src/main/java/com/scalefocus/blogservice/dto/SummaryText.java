@@ -0,0 +1,123 @@
+package com.scalefocus.blogservice.dto;
+
+/**
+ * Read-only view of a post text cut to a summary limit, with " ..." appended when the text was cut. Nothing is
+ * copied until {@link #toString()} is called; JSON output copies the characters straight from the source text.
+ */
+public final class SummaryText implements CharSequence {
+
+    static final String ELLIPSIS = " ...";
+
+    private final String source;
+    private final int prefixLength;
+    private final boolean truncated;
+
+    private SummaryText(String source, int prefixLength, boolean truncated) {
+        this.source = source;
+        this.prefixLength = prefixLength;
+        this.truncated = truncated;
+    }
+
+    public static SummaryText of(String text, int summaryLimit) {
+        return of(text, text.length(), summaryLimit);
+    }
+
+    /**
+     * Builds the summary from a stored prefix of a text that is {@code textLength} characters long. The prefix must
+     * {@link #covers cover} the limit.
+     */
+    public static SummaryText of(String prefix, int textLength, int summaryLimit) {
+        if (textLength <= summaryLimit) {
+            return new SummaryText(prefix, textLength, false);
+        }
+        int prefixLength = Math.max(0, summaryLimit - ELLIPSIS.length());
+        // never split a surrogate pair, the lone high surrogate would not be valid UTF-8
+        if (prefixLength > 0 && Character.isHighSurrogate(prefix.charAt(prefixLength - 1))) {
+            prefixLength--;
+        }
+        return new SummaryText(prefix, prefixLength, true);
+    }
+
+    /**
+     * Whether a stored prefix holds enough of the text to build the summary for {@code summaryLimit}.
+     */
+    public static boolean covers(String prefix, Integer textLength, int summaryLimit) {
+        if (prefix == null || textLength == null) {
+            return false;
+        }
+        return textLength <= summaryLimit
+                ? prefix.length() == textLength
+                : prefix.length() >= summaryLimit - ELLIPSIS.length();
+    }
+
+    /**
+     * The prefix of {@code text} to store so that any summary up to {@code maxLength} can be built without the text.
+     */
+    public static String storedPrefix(String text, int maxLength) {
+        if (text.length() <= maxLength) {
+            return text;
+        }
+        int prefixLength = Character.isHighSurrogate(text.charAt(maxLength - 1)) ? maxLength - 1 : maxLength;
+        return text.substring(0, prefixLength);
+    }
+
+    @Override
+    public int length() {
+        return truncated ? prefixLength + ELLIPSIS.length() : prefixLength;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length()) {
+            throw new IndexOutOfBoundsException("index " + index + " out of bounds for length " + length());
+        }
+        return index < prefixLength ? source.charAt(index) : ELLIPSIS.charAt(index - prefixLength);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    /**
+     * Copies the characters {@code [begin, end)} of this summary into {@code destination}, like {@link String#getChars}.
+     */
+    public void getChars(int begin, int end, char[] destination, int destinationBegin) {
+        if (begin < 0 || end > length() || begin > end) {
+            throw new IndexOutOfBoundsException("range [" + begin + ", " + end + ") out of bounds for length " + length());
+        }
+        int prefixEnd = Math.min(end, prefixLength);
+        if (begin < prefixEnd) {
+            source.getChars(begin, prefixEnd, destination, destinationBegin);
+        }
+        int suffixBegin = Math.max(begin, prefixLength);
+        if (suffixBegin < end) {
+            ELLIPSIS.getChars(suffixBegin - prefixLength, end - prefixLength, destination, destinationBegin + suffixBegin - begin);
+        }
+    }
+
+    /**
+     * Summaries are equal when their characters are, however much of the source text each one holds.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SummaryText summary && CharSequence.compare(this, summary) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < length(); i++) {
+            hash = 31 * hash + charAt(i);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        if (!truncated) {
+            return source;
+        }
+        return source.substring(0, prefixLength).concat(ELLIPSIS);
+    }
+}
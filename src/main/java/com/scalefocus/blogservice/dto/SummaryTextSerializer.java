@@ -0,0 +1,54 @@
+package com.scalefocus.blogservice.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Writes a {@link SummaryText} into the JSON string without building the summary {@code String} first.
+ */
+public class SummaryTextSerializer extends StdSerializer<CharSequence> {
+
+    public SummaryTextSerializer() {
+        super(CharSequence.class);
+    }
+
+    @Override
+    public void serialize(CharSequence value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value instanceof SummaryText summary) {
+            generator.writeString(new SummaryReader(summary), summary.length());
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+
+    private static final class SummaryReader extends Reader {
+
+        private final SummaryText summary;
+        private int position;
+
+        private SummaryReader(SummaryText summary) {
+            this.summary = summary;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (position >= summary.length()) {
+                return -1;
+            }
+            int end = Math.min(summary.length(), position + length);
+            summary.getChars(position, end, buffer, offset);
+            int read = end - position;
+            position = end;
+            return read;
+        }
+
+        @Override
+        public void close() {
+            // nothing to release
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.scalefocus.blogservice.dto;
+
+/**
+ * Result of merging a tag into {@code tag}. {@code postsAlreadyTagged} carried both tags and only lost the source one.
+ */
+public record TagMergeDTO(ResponseTagDTO tag, int postsMoved, int postsAlreadyTagged) {
+}
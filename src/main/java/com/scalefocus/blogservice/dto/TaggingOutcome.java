@@ -0,0 +1,9 @@
+package com.scalefocus.blogservice.dto;
+
+public enum TaggingOutcome {
+    ADDED,
+    ALREADY_TAGGED,
+    REMOVED,
+    NOT_TAGGED,
+    NOT_FOUND
+}
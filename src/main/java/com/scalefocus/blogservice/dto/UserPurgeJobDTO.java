@@ -0,0 +1,7 @@
+package com.scalefocus.blogservice.dto;
+
+import java.time.LocalDateTime;
+
+public record UserPurgeJobDTO(Long jobId, String username, String status, long postsDeleted, Long postsRemaining,
+                              LocalDateTime timeCreated, LocalDateTime timeUpdated, LocalDateTime timeFinished, String error) {
+}
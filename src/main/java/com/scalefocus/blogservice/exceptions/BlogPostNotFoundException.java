@@ -3,7 +3,8 @@ package com.scalefocus.blogservice.exceptions;
 public class BlogPostNotFoundException extends RuntimeException {
 
     public BlogPostNotFoundException(Long id){
-        super(String.format("Blogpost with id %s not found",id));
+        // a plain 404, the stack trace would never be read and costs more than the lookup it reports
+        super(String.format("Blogpost with id %s not found",id), null, false, false);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.scalefocus.blogservice.exceptions;
+
+public class IdempotencyKeyInUseException extends RuntimeException {
+    public IdempotencyKeyInUseException(String key) {
+        super(String.format("A request with idempotency key %s is still being processed", key));
+    }
+}
@@ -0,0 +1,7 @@
+package com.scalefocus.blogservice.exceptions;
+
+public class IdempotencyKeyMismatchException extends RuntimeException {
+    public IdempotencyKeyMismatchException(String key) {
+        super(String.format("Idempotency key %s was already used for a different request", key));
+    }
+}
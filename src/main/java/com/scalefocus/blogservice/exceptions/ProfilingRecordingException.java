@@ -0,0 +1,7 @@
+package com.scalefocus.blogservice.exceptions;
+
+public class ProfilingRecordingException extends RuntimeException {
+    public ProfilingRecordingException(String message) {
+        super(message);
+    }
+}
@@ -2,6 +2,6 @@ package com.scalefocus.blogservice.exceptions;
 
 public class TagNotFoundException extends RuntimeException{
     public TagNotFoundException(String tagName){
-        super("Tag with name " + tagName + " not found");
+        super("Tag with name " + tagName + " not found", null, false, false);
     }
 }
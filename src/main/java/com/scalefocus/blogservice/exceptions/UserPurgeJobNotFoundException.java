@@ -0,0 +1,8 @@
+package com.scalefocus.blogservice.exceptions;
+
+public class UserPurgeJobNotFoundException extends RuntimeException {
+
+    public UserPurgeJobNotFoundException(Long id) {
+        super(String.format("User purge job with id %s not found", id));
+    }
+}
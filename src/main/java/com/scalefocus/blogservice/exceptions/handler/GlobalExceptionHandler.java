@@ -37,6 +37,16 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorResponse(ex.getMessage(), LocalDateTime.now()));
     }
 
+    @ExceptionHandler(UserPurgeJobNotFoundException.class)
+    public ResponseEntity<Object> handleException(UserPurgeJobNotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorResponse(ex.getMessage(), LocalDateTime.now()));
+    }
+
+    @ExceptionHandler(ProfilingRecordingException.class)
+    public ResponseEntity<Object> handleException(ProfilingRecordingException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponse(ex.getMessage(), LocalDateTime.now()));
+    }
+
     @ExceptionHandler(BlogPostCreationException.class)
     public ResponseEntity<ErrorResponse> handleBlogPostCreationException(BlogPostCreationException ex) {
         ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), LocalDateTime.now());
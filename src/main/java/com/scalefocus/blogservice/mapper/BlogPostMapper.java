@@ -5,6 +5,7 @@ import com.scalefocus.blogservice.dto.CreateBlogPostDTO;
 import com.scalefocus.blogservice.dto.ResponseTagDTO;
 import com.scalefocus.blogservice.model.BlogPost;
 import com.scalefocus.blogservice.model.Tag;
+import org.mapstruct.DecoratedWith;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
@@ -12,14 +13,23 @@ import org.mapstruct.factory.Mappers;
 import java.util.List;
 
 @Mapper
+@DecoratedWith(BlogPostMapperDecorator.class)
 public interface BlogPostMapper {
 
     BlogPostMapper INSTANCE = Mappers.getMapper(BlogPostMapper.class);
 
     BlogPostDTO blogPostToBlogPostDTO(BlogPost blogPost);
 
+    @Mapping(target = "summary", ignore = true)
+    @Mapping(target = "textLength", ignore = true)
+    @Mapping(target = "summaryLimit", ignore = true)
     BlogPost blogPostDTOToBlogPost(BlogPostDTO blogPostDTO);
 
+    @Mapping(target = "blogId", ignore = true)
+    @Mapping(target = "summary", ignore = true)
+    @Mapping(target = "textLength", ignore = true)
+    @Mapping(target = "summaryLimit", ignore = true)
+    @Mapping(target = "author", ignore = true)
     BlogPost createBlogPostDTOToBlogPost(CreateBlogPostDTO createBlogPostDTO);
 
     @Mapping(target = "author", source = "author")
@@ -0,0 +1,66 @@
+package com.scalefocus.blogservice.mapper;
+
+import com.scalefocus.blogservice.dto.BlogPostDTO;
+import com.scalefocus.blogservice.dto.ResponseTagDTO;
+import com.scalefocus.blogservice.model.BlogPost;
+import com.scalefocus.blogservice.model.Tag;
+import com.scalefocus.blogservice.monitoring.jfr.MappingEvent;
+
+import java.util.List;
+
+public abstract class BlogPostMapperDecorator implements BlogPostMapper {
+
+    private final BlogPostMapper delegate;
+
+    protected BlogPostMapperDecorator(BlogPostMapper delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public BlogPostDTO blogPostToBlogPostDTO(BlogPost blogPost) {
+        MappingEvent event = new MappingEvent();
+        event.begin();
+        BlogPostDTO blogPostDTO = delegate.blogPostToBlogPostDTO(blogPost);
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = "blogPostToBlogPostDTO";
+            event.elementCount = 1;
+            if (blogPost != null && blogPost.getBlogId() != null) {
+                event.postId = blogPost.getBlogId();
+            }
+            event.describeRequest();
+            event.commit();
+        }
+        return blogPostDTO;
+    }
+
+    @Override
+    public List<BlogPostDTO> blogPostsToBlogPostDTOs(List<BlogPost> blogPosts) {
+        MappingEvent event = new MappingEvent();
+        event.begin();
+        List<BlogPostDTO> blogPostDTOs = delegate.blogPostsToBlogPostDTOs(blogPosts);
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = "blogPostsToBlogPostDTOs";
+            event.elementCount = blogPosts == null ? 0 : blogPosts.size();
+            event.describeRequest();
+            event.commit();
+        }
+        return blogPostDTOs;
+    }
+
+    @Override
+    public List<ResponseTagDTO> tagsToTagDTOs(List<Tag> tags) {
+        MappingEvent event = new MappingEvent();
+        event.begin();
+        List<ResponseTagDTO> tagDTOs = delegate.tagsToTagDTOs(tags);
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = "tagsToTagDTOs";
+            event.elementCount = tags == null ? 0 : tags.size();
+            event.describeRequest();
+            event.commit();
+        }
+        return tagDTOs;
+    }
+}
@@ -1,30 +1,76 @@
 package com.scalefocus.blogservice.model;
 
+import com.scalefocus.blogservice.model.converters.CompressedTextConverter;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
 
 import java.util.ArrayList;
 import java.util.List;
 
-@Data
+@Getter
+@Setter
+@ToString
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder(toBuilder = true)
+@EntityListeners({BlogPostSummaryListener.class, ExistenceFilterListener.class})
 public class BlogPost {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long blogId;
     private String title;
+
+    @ToString.Exclude
+    @Lob
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "longblob")
     private String text;
 
+    /**
+     * Leading characters of {@link #text}, kept up to date by {@link BlogPostSummaryListener} so listings can build
+     * summaries without loading the text.
+     */
+    private String summary;
+
+    private Integer textLength;
+
+    /**
+     * The {@code blogpost.summary.limit} {@link #summary} was cut for; it can be a character shorter than the limit.
+     */
+    private Integer summaryLimit;
+
     private String author;
 
+    @ToString.Exclude
     @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinTable(name = "blog_post_tags", joinColumns = @JoinColumn(name = "blog_post_id"), inverseJoinColumns = @JoinColumn(name = "tag_id"))
     private List<Tag> tags = new ArrayList<>();
 
+    /**
+     * Identity is the database ID, so comparing posts never initializes their tags. A post that is not saved yet is
+     * only equal to itself.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+            return false;
+        }
+        return getBlogId() != null && getBlogId().equals(((BlogPost) o).getBlogId());
+    }
+
+    @Override
+    public int hashCode() {
+        // constant per class so the hash does not change when the ID is assigned on save
+        return Hibernate.getClass(this).hashCode();
+    }
 }
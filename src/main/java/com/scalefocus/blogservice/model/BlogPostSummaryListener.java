@@ -0,0 +1,33 @@
+package com.scalefocus.blogservice.model;
+
+import com.scalefocus.blogservice.config.SummaryProperties;
+import com.scalefocus.blogservice.dto.SummaryText;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores the summary prefix and text length of a post whenever it is inserted or updated.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlogPostSummaryListener {
+
+    private final SummaryProperties summaryProperties;
+
+    @PrePersist
+    @PreUpdate
+    public void updateSummary(BlogPost blogPost) {
+        String text = blogPost.getText();
+        if (text == null) {
+            blogPost.setSummary(null);
+            blogPost.setTextLength(null);
+            blogPost.setSummaryLimit(null);
+            return;
+        }
+        blogPost.setSummary(SummaryText.storedPrefix(text, summaryProperties.getLimit()));
+        blogPost.setTextLength(text.length());
+        blogPost.setSummaryLimit(summaryProperties.getLimit());
+    }
+}
@@ -0,0 +1,25 @@
+package com.scalefocus.blogservice.model;
+
+import com.scalefocus.blogservice.service.implementation.ExistenceFilters;
+import jakarta.persistence.PostPersist;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds every inserted post to the {@link ExistenceFilters}, before the inserting transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExistenceFilterListener {
+
+    // looked up lazily, the filters depend on the repositories that depend on this listener
+    private final ObjectProvider<ExistenceFilters> existenceFilters;
+
+    @PostPersist
+    public void added(Object entity) {
+        if (entity instanceof BlogPost blogPost) {
+            existenceFilters.getObject().addBlogPost(blogPost.getBlogId());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.scalefocus.blogservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table(name = "idempotency_key")
+public class IdempotencyRecord {
+    @EmbeddedId
+    private IdempotencyRecordId id;
+
+    /**
+     * SHA-256 of the method, path, query and body the key was first used with.
+     */
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IdempotencyStatus status;
+
+    private Integer responseStatus;
+
+    private String contentType;
+
+    @ToString.Exclude
+    @Lob
+    @Column(columnDefinition = "longblob")
+    private byte[] responseBody;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime timeCreated;
+
+    /**
+     * End of the claim while {@link IdempotencyStatus#IN_PROGRESS}, end of the retention once completed.
+     */
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
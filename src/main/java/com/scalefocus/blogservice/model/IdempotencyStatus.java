@@ -0,0 +1,6 @@
+package com.scalefocus.blogservice.model;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
@@ -3,14 +3,19 @@ package com.scalefocus.blogservice.model;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
-@Data
+@Getter
+@Setter
+@ToString
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,6 +28,7 @@ public class Tag {
     @Column(unique = true)
     private String tagName;
 
+    @ToString.Exclude
     @ManyToMany(mappedBy = "tags", cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     private List<BlogPost> blogPosts = new ArrayList<>();
 
@@ -34,4 +40,22 @@ public class Tag {
         this.timeCreated = LocalDateTime.now();
     }
 
+    /**
+     * Identity is the database ID, so comparing tags never initializes their posts.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+            return false;
+        }
+        return getTagId() != null && getTagId().equals(((Tag) o).getTagId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Hibernate.getClass(this).hashCode();
+    }
 }
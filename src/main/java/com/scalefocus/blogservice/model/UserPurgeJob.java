@@ -0,0 +1,46 @@
+package com.scalefocus.blogservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class UserPurgeJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long jobId;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private UserPurgeStatus status;
+
+    @Column(nullable = false)
+    private long postsDeleted;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime timeCreated;
+
+    private LocalDateTime timeUpdated;
+
+    private LocalDateTime timeFinished;
+
+    @Column(length = 1000)
+    private String error;
+
+    @PrePersist
+    protected void onCreate() {
+        this.timeCreated = LocalDateTime.now();
+        this.timeUpdated = this.timeCreated;
+    }
+}
@@ -0,0 +1,8 @@
+package com.scalefocus.blogservice.model;
+
+public enum UserPurgeStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,110 @@
+package com.scalefocus.blogservice.model.converters;
+
+import com.scalefocus.blogservice.config.TextCompressionProperties;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Stores post bodies as UTF-8 bytes behind a one byte header: {@code 0x00} for plain text, {@code 0x01} for a
+ * Deflate stream preceded by the plain length as a four byte int. Anything else is a row written before the header
+ * existed and is read as plain UTF-8. Bodies are only compressed when enabled, above the minimum size and when it
+ * saves space, so turning compression on or off never needs a rewrite of existing rows.
+ */
+@Converter
+@RequiredArgsConstructor
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    static final byte PLAIN = 0x00;
+    static final byte DEFLATE = 0x01;
+
+    private static final int DEFLATE_HEADER_LENGTH = 1 + Integer.BYTES;
+
+    private final TextCompressionProperties properties;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String text) {
+        if (text == null) {
+            return null;
+        }
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        if (properties.isEnabled() && utf8.length >= properties.getMinSize().toBytes()) {
+            byte[] compressed = deflate(utf8);
+            if (compressed != null) {
+                return compressed;
+            }
+        }
+        byte[] plain = new byte[utf8.length + 1];
+        plain[0] = PLAIN;
+        System.arraycopy(utf8, 0, plain, 1, utf8.length);
+        return plain;
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] column) {
+        if (column == null) {
+            return null;
+        }
+        if (column.length == 0) {
+            return "";
+        }
+        return switch (column[0]) {
+            case PLAIN -> new String(column, 1, column.length - 1, StandardCharsets.UTF_8);
+            case DEFLATE -> inflate(column);
+            default -> new String(column, StandardCharsets.UTF_8);
+        };
+    }
+
+    /**
+     * Returns the compressed encoding, or {@code null} when it would not be smaller than the plain one.
+     */
+    private byte[] deflate(byte[] utf8) {
+        Deflater deflater = new Deflater(properties.getLevel());
+        try {
+            deflater.setInput(utf8);
+            deflater.finish();
+            byte[] encoded = new byte[utf8.length + 1];
+            encoded[0] = DEFLATE;
+            ByteBuffer.wrap(encoded, 1, Integer.BYTES).putInt(utf8.length);
+            int length = DEFLATE_HEADER_LENGTH;
+            while (!deflater.finished()) {
+                if (length == encoded.length) {
+                    return null;
+                }
+                length += deflater.deflate(encoded, length, encoded.length - length);
+            }
+            return Arrays.copyOf(encoded, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static String inflate(byte[] column) {
+        int plainLength = ByteBuffer.wrap(column, 1, Integer.BYTES).getInt();
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(column, DEFLATE_HEADER_LENGTH, column.length - DEFLATE_HEADER_LENGTH);
+            byte[] utf8 = new byte[plainLength];
+            int length = 0;
+            while (length < plainLength) {
+                int inflated = inflater.inflate(utf8, length, plainLength - length);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Compressed blog post text is truncated");
+                }
+                length += inflated;
+            }
+            return new String(utf8, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Compressed blog post text is corrupt", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
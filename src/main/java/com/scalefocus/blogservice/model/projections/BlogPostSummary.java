@@ -0,0 +1,7 @@
+package com.scalefocus.blogservice.model.projections;
+
+/**
+ * Listing row of a blog post carrying the stored summary prefix instead of the full text.
+ */
+public record BlogPostSummary(Long blogId, String title, String author, String summary, Integer textLength) {
+}
@@ -13,6 +13,18 @@ public class BlogPostSpecification {
         return (root, query, criteriaBuilder) -> tag == null ? null : criteriaBuilder.equal(root.join("tags").get("tagName"), tag);
     }
 
+    public static Specification<BlogPost> hasId(Long blogId) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("blogId"), blogId);
+    }
+
+    public static Specification<BlogPost> hasAuthor(String author) {
+        return (root, query, criteriaBuilder) -> author == null ? null : criteriaBuilder.equal(root.get("author"), author);
+    }
+
+    public static Specification<BlogPost> hasIdBefore(Long blogId) {
+        return (root, query, criteriaBuilder) -> blogId == null ? null : criteriaBuilder.lessThan(root.get("blogId"), blogId);
+    }
+
     public static Specification<BlogPost> hasParity(String parity) {
         return (root, query, criteriaBuilder) -> {
             if (parity == null) {
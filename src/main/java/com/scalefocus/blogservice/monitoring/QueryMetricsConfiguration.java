@@ -0,0 +1,31 @@
+package com.scalefocus.blogservice.monitoring;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class QueryMetricsConfiguration {
+
+    @Bean
+    public static BeanPostProcessor queryStatisticsDataSourcePostProcessor(
+            @Value("${blog.datasource.slow-query-threshold-ms:200}") long slowQueryThresholdMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new QueryStatisticsListener(slowQueryThresholdMillis))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.scalefocus.blogservice.monitoring;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class QueryStatistics {
+
+    public static final String REQUEST_ATTRIBUTE = QueryStatistics.class.getName();
+
+    private static final ThreadLocal<QueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger queryCount = new AtomicInteger();
+    private final AtomicLong elapsedMillis = new AtomicLong();
+
+    public static QueryStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static void bind(QueryStatistics statistics) {
+        CURRENT.set(statistics);
+    }
+
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    void record(int queries, long elapsed) {
+        queryCount.addAndGet(queries);
+        elapsedMillis.addAndGet(elapsed);
+    }
+
+    public int getQueryCount() {
+        return queryCount.get();
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis.get();
+    }
+}
@@ -0,0 +1,40 @@
+package com.scalefocus.blogservice.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class QueryStatisticsListener implements QueryExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryStatisticsListener.class);
+
+    private final long slowQueryThresholdMillis;
+
+    public QueryStatisticsListener(long slowQueryThresholdMillis) {
+        this.slowQueryThresholdMillis = slowQueryThresholdMillis;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // nothing to do before the statement runs
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryStatistics statistics = QueryStatistics.current();
+        if (statistics != null) {
+            statistics.record(queryInfoList.size(), execInfo.getElapsedTime());
+        }
+
+        if (execInfo.getElapsedTime() >= slowQueryThresholdMillis) {
+            String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+            int parameterCount = queryInfoList.stream().mapToInt(queryInfo -> queryInfo.getParametersList().size()).sum();
+            logger.warn("Slow query ({} ms, {} parameter set(s) redacted): {}", execInfo.getElapsedTime(), parameterCount, sql);
+        }
+    }
+}
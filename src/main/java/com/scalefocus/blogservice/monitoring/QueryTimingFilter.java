@@ -0,0 +1,115 @@
+package com.scalefocus.blogservice.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryTimingFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryTimingFilter.class);
+
+    static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final DistributionSummary queriesPerRequest;
+
+    public QueryTimingFilter(ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        this.queriesPerRequest = registry == null ? null : DistributionSummary.builder("blog.db.queries.per.request")
+                .description("SQL statements executed per HTTP request")
+                .register(registry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryStatistics statistics = new QueryStatistics();
+        request.setAttribute(QueryStatistics.REQUEST_ATTRIBUTE, statistics);
+        QueryStatistics.bind(statistics);
+        ServerTimingResponse timingResponse = new ServerTimingResponse(response, statistics);
+        try {
+            filterChain.doFilter(request, timingResponse);
+        } finally {
+            QueryStatistics.unbind();
+            timingResponse.addServerTiming();
+            if (queriesPerRequest != null) {
+                queriesPerRequest.record(statistics.getQueryCount());
+            }
+            logger.debug("{} {} executed {} queries in {} ms", request.getMethod(), request.getRequestURI(),
+                    statistics.getQueryCount(), statistics.getElapsedMillis());
+        }
+    }
+
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final QueryStatistics statistics;
+        private boolean headerWritten;
+
+        private ServerTimingResponse(HttpServletResponse response, QueryStatistics statistics) {
+            super(response);
+            this.statistics = statistics;
+        }
+
+        private void addServerTiming() {
+            if (headerWritten || isCommitted()) {
+                return;
+            }
+            headerWritten = true;
+            addHeader(SERVER_TIMING_HEADER, String.format(Locale.ROOT, "db;dur=%d;desc=\"%d queries\"",
+                    statistics.getElapsedMillis(), statistics.getQueryCount()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addServerTiming();
+            super.sendRedirect(location);
+        }
+    }
+}
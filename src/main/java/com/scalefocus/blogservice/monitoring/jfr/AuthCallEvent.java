@@ -0,0 +1,19 @@
+package com.scalefocus.blogservice.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.scalefocus.blogservice.AuthCall")
+@Label("Auth Service Call")
+@Category({"Blog Service", "Auth"})
+@Description("Remote call from AuthClient to the auth service")
+public class AuthCallEvent extends BlogServiceEvent {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,45 @@
+package com.scalefocus.blogservice.monitoring.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+@StackTrace(false)
+public abstract class BlogServiceEvent extends Event {
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Blog Post ID")
+    public long postId;
+
+    /**
+     * Fills in the endpoint and, when the caller did not know it, the post ID from the HTTP
+     * request handled by the current thread. Only called for events that are going to be committed.
+     */
+    public void describeRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        endpoint = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+
+        if (postId == 0 && request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE) instanceof Map<?, ?> variables
+                && variables.get("id") instanceof String id) {
+            try {
+                postId = Long.parseLong(id);
+            } catch (NumberFormatException e) {
+                // not a blog post path, leave the post ID unset
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.scalefocus.blogservice.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.scalefocus.blogservice.Mapping")
+@Label("Entity Mapping")
+@Category({"Blog Service", "Mapping"})
+@Description("BlogPostMapper conversion between entities and DTOs")
+public class MappingEvent extends BlogServiceEvent {
+
+    @Label("Mapping Method")
+    public String method;
+
+    @Label("Element Count")
+    public int elementCount;
+}
@@ -0,0 +1,16 @@
+package com.scalefocus.blogservice.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.scalefocus.blogservice.RepositoryCall")
+@Label("Repository Call")
+@Category({"Blog Service", "Database"})
+@Description("Spring Data repository method invoked by the service layer")
+public class RepositoryCallEvent extends BlogServiceEvent {
+
+    @Label("Repository Method")
+    public String method;
+}
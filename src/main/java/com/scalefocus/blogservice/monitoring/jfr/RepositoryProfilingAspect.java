@@ -0,0 +1,33 @@
+package com.scalefocus.blogservice.monitoring.jfr;
+
+import com.scalefocus.blogservice.repository.BlogPostRepository;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class RepositoryProfilingAspect {
+
+    @Around("target(com.scalefocus.blogservice.repository.BlogPostRepository) || target(com.scalefocus.blogservice.repository.TagRepository)")
+    public Object recordRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                boolean blogPostRepository = joinPoint.getTarget() instanceof BlogPostRepository;
+                event.method = (blogPostRepository ? "BlogPostRepository." : "TagRepository.") + joinPoint.getSignature().getName();
+                Object[] args = joinPoint.getArgs();
+                if (blogPostRepository && args.length > 0 && args[0] instanceof Long id) {
+                    event.postId = id;
+                }
+                event.describeRequest();
+                event.commit();
+            }
+        }
+    }
+}
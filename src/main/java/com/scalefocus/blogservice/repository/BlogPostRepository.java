@@ -1,13 +1,87 @@
 package com.scalefocus.blogservice.repository;
 
 import com.scalefocus.blogservice.model.BlogPost;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface BlogPostRepository extends JpaRepository<BlogPost, Long>, JpaSpecificationExecutor<BlogPost> {
+public interface BlogPostRepository extends JpaRepository<BlogPost, Long>, JpaSpecificationExecutor<BlogPost>, BlogPostSummaryRepository {
+    // inner join, the derived query's left join keeps H2 from starting at the tag_name index
+    @Query("select b from BlogPost b join b.tags t where t.tagName = :tagName")
     List<BlogPost> findByTags_TagName(String tagName);
+
+    /**
+     * Filtered listing page. Loaded posts are read-only, Hibernate keeps no snapshot of them for dirty checking.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Page<BlogPost> findAll(Specification<BlogPost> spec, Pageable pageable);
+
+    @EntityGraph(attributePaths = "tags")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Optional<BlogPost> findWithTagsByBlogId(Long blogId);
+
+    @Query("select b from BlogPost b where b.blogId in :ids")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<BlogPost> findAllByBlogIdIn(Collection<Long> ids);
+
+    long countByAuthor(String author);
+
+    @Query("select b.blogId from BlogPost b where b.blogId in :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    @Query("select b.blogId from BlogPost b where b.blogId > :afterId order by b.blogId")
+    List<Long> findIdsAfter(long afterId, Pageable pageable);
+
+    @Query("select b.blogId from BlogPost b where b.author = :author order by b.blogId")
+    List<Long> findIdsByAuthor(String author, Pageable pageable);
+
+    @Modifying
+    @Query(value = "delete from blog_post_tags where blog_post_id in (:ids)", nativeQuery = true)
+    int deleteTagLinksByBlogPostIds(Collection<Long> ids);
+
+    /**
+     * Links a tag to a post without loading the post's tags. Returns 0 when the post already had the tag.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "insert ignore into blog_post_tags (blog_post_id, tag_id) values (:blogPostId, :tagId)", nativeQuery = true)
+    int attachTag(Long blogPostId, Long tagId);
+
+    /**
+     * Unlinks a tag from a post without loading the post's tags. Returns 0 when the post did not have the tag.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "delete from blog_post_tags where blog_post_id = :blogPostId and tag_id = :tagId", nativeQuery = true)
+    int detachTag(Long blogPostId, Long tagId);
+
+    @Query("select b.author from BlogPost b where b.blogId = :id")
+    Optional<String> findAuthorByBlogId(Long id);
+
+    /**
+     * Posts after {@code afterId} whose stored summary is missing or was cut for a smaller limit than
+     * {@code summaryLimit}. The stored limit is compared rather than the summary's length, which is one character
+     * short of the limit when a surrogate pair straddles it.
+     */
+    @Query("select b from BlogPost b where b.blogId > :afterId and b.text is not null"
+            + " and (b.summary is null or b.textLength is null"
+            + " or ((b.summaryLimit is null or b.summaryLimit < :summaryLimit) and length(b.summary) < b.textLength))"
+            + " order by b.blogId")
+    List<BlogPost> findWithStaleSummary(Long afterId, int summaryLimit, Pageable pageable);
 }
@@ -0,0 +1,33 @@
+package com.scalefocus.blogservice.repository;
+
+import com.scalefocus.blogservice.model.BlogPost;
+import com.scalefocus.blogservice.model.Tag;
+import com.scalefocus.blogservice.model.projections.BlogPostSummary;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface BlogPostSummaryRepository {
+    Page<BlogPostSummary> findSummaries(Specification<BlogPost> spec, Pageable pageable);
+
+    List<BlogPostSummary> findSummaries(Specification<BlogPost> spec, Sort sort, int limit);
+
+    /**
+     * Selects only the given {@link BlogPost} attributes, each tuple element aliased with its attribute name.
+     */
+    Page<Tuple> findFields(Specification<BlogPost> spec, Collection<String> attributes, Pageable pageable);
+
+    List<Tuple> findFields(Specification<BlogPost> spec, Collection<String> attributes, Sort sort, int limit);
+
+    List<Long> findIds(Specification<BlogPost> spec, Sort sort, int limit);
+
+    Map<Long, List<Tag>> findTagsByBlogPostIds(Collection<Long> ids);
+
+    Map<Long, String> findTextsByBlogPostIds(Collection<Long> ids);
+}
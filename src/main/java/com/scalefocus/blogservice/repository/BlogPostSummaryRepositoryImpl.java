@@ -0,0 +1,146 @@
+package com.scalefocus.blogservice.repository;
+
+import com.scalefocus.blogservice.model.BlogPost;
+import com.scalefocus.blogservice.model.Tag;
+import com.scalefocus.blogservice.model.projections.BlogPostSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+@RequiredArgsConstructor
+public class BlogPostSummaryRepositoryImpl implements BlogPostSummaryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<BlogPostSummary> findSummaries(Specification<BlogPost> spec, Pageable pageable) {
+        TypedQuery<BlogPostSummary> query = summaryQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<BlogPostSummary> findSummaries(Specification<BlogPost> spec, Sort sort, int limit) {
+        return summaryQuery(spec, sort).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Page<Tuple> findFields(Specification<BlogPost> spec, Collection<String> attributes, Pageable pageable) {
+        TypedQuery<Tuple> query = fieldQuery(spec, attributes, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<Tuple> findFields(Specification<BlogPost> spec, Collection<String> attributes, Sort sort, int limit) {
+        return fieldQuery(spec, attributes, sort).setMaxResults(limit).getResultList();
+    }
+
+    private TypedQuery<Tuple> fieldQuery(Specification<BlogPost> spec, Collection<String> attributes, Sort sort) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<BlogPost> root = query.from(BlogPost.class);
+        query.multiselect(attributes.stream().<Selection<?>>map(attribute -> root.get(attribute).alias(attribute)).toList());
+        applySpecification(spec, root, query, criteriaBuilder);
+        if (sort.isSorted()) {
+            query.orderBy(toOrders(sort, root, criteriaBuilder));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    @Override
+    public List<Long> findIds(Specification<BlogPost> spec, Sort sort, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<BlogPost> root = query.from(BlogPost.class);
+        query.select(root.get("blogId"));
+        applySpecification(spec, root, query, criteriaBuilder);
+        if (sort.isSorted()) {
+            query.orderBy(toOrders(sort, root, criteriaBuilder));
+        }
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private TypedQuery<BlogPostSummary> summaryQuery(Specification<BlogPost> spec, Sort sort) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BlogPostSummary> query = criteriaBuilder.createQuery(BlogPostSummary.class);
+        Root<BlogPost> root = query.from(BlogPost.class);
+        query.select(criteriaBuilder.construct(BlogPostSummary.class, root.get("blogId"), root.get("title"),
+                root.get("author"), root.get("summary"), root.get("textLength")));
+        applySpecification(spec, root, query, criteriaBuilder);
+        if (sort.isSorted()) {
+            query.orderBy(toOrders(sort, root, criteriaBuilder));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    @Override
+    public Map<Long, List<Tag>> findTagsByBlogPostIds(Collection<Long> ids) {
+        List<Object[]> rows = entityManager.createQuery(
+                        "select b.blogId, t from BlogPost b join b.tags t where b.blogId in :ids", Object[].class)
+                .setParameter("ids", ids)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList();
+        Map<Long, List<Tag>> tagsByBlogPostId = new HashMap<>();
+        for (Object[] row : rows) {
+            tagsByBlogPostId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Tag) row[1]);
+        }
+        return tagsByBlogPostId;
+    }
+
+    @Override
+    public Map<Long, String> findTextsByBlogPostIds(Collection<Long> ids) {
+        List<Object[]> rows = entityManager.createQuery(
+                        "select b.blogId, b.text from BlogPost b where b.blogId in :ids", Object[].class)
+                .setParameter("ids", ids)
+                .getResultList();
+        Map<Long, String> textsByBlogPostId = new HashMap<>();
+        for (Object[] row : rows) {
+            textsByBlogPostId.put((Long) row[0], (String) row[1]);
+        }
+        return textsByBlogPostId;
+    }
+
+    private long count(Specification<BlogPost> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<BlogPost> root = query.from(BlogPost.class);
+        applySpecification(spec, root, query, criteriaBuilder);
+        query.select(query.isDistinct() ? criteriaBuilder.countDistinct(root) : criteriaBuilder.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static void applySpecification(Specification<BlogPost> spec, Root<BlogPost> root, CriteriaQuery<?> query,
+                                           CriteriaBuilder criteriaBuilder) {
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
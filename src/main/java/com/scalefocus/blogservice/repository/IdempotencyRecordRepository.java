@@ -0,0 +1,47 @@
+package com.scalefocus.blogservice.repository;
+
+import com.scalefocus.blogservice.model.IdempotencyRecord;
+import com.scalefocus.blogservice.model.IdempotencyRecordId;
+import com.scalefocus.blogservice.model.IdempotencyStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, IdempotencyRecordId> {
+
+    /**
+     * Claims a key with a plain insert, so two instances racing for the same key are decided by the primary key.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "insert into idempotency_key (username, idempotency_key, request_hash, status, time_created, expires_at)"
+            + " values (:username, :key, :requestHash, 'IN_PROGRESS', :now, :expiresAt)", nativeQuery = true)
+    int insertInProgress(String username, String key, String requestHash, LocalDateTime now, LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("update IdempotencyRecord r set r.status = :status, r.responseStatus = :responseStatus, r.contentType = :contentType,"
+            + " r.responseBody = :responseBody, r.expiresAt = :expiresAt where r.id = :id")
+    int complete(IdempotencyRecordId id, IdempotencyStatus status, int responseStatus, String contentType, byte[] responseBody,
+                 LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.id = :id and r.status = :status")
+    int deleteByIdAndStatus(IdempotencyRecordId id, IdempotencyStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.id = :id and r.expiresAt < :now")
+    int deleteExpired(IdempotencyRecordId id, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from idempotency_key where expires_at < :now limit :limit", nativeQuery = true)
+    int deleteExpired(LocalDateTime now, int limit);
+}
@@ -1,12 +1,65 @@
 package com.scalefocus.blogservice.repository;
 
 import com.scalefocus.blogservice.model.Tag;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TagRepository extends JpaRepository<Tag, Integer> {
     Optional<Tag> findByTagName(String tagName);
+
+    @Query("select t from Tag t")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Tag> findAllReadOnly();
+
+    /**
+     * Removes up to {@code limit} post links of the tag in a transaction of its own. {@code delete ... limit} is MySQL
+     * syntax, like the {@code insert ignore} statements, so the schema needs MySQL or H2 in MySQL mode.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "delete from blog_post_tags where tag_id = :tagId limit :limit", nativeQuery = true)
+    int deleteBlogPostLinks(Long tagId, int limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Tag t where t.tagId = :tagId")
+    Optional<Tag> findByIdForUpdate(Long tagId);
+
+    @Modifying
+    @Query(value = "delete from blog_post_tags where tag_id = :tagId", nativeQuery = true)
+    int deleteAllBlogPostLinks(Long tagId);
+
+    // the derived table is materialized, MySQL rejects a subquery on the table being deleted from otherwise
+    @Modifying
+    @Query(value = "delete from blog_post_tags where tag_id = :fromTagId and blog_post_id in"
+            + " (select blog_post_id from (select blog_post_id from blog_post_tags where tag_id = :toTagId) tagged)", nativeQuery = true)
+    int deleteBlogPostLinksAlsoTaggedWith(Long fromTagId, Long toTagId);
+
+    @Query(value = "select blog_post_id from blog_post_tags where tag_id = :tagId and blog_post_id in (:blogPostIds)", nativeQuery = true)
+    List<Long> findTaggedBlogPostIds(Long tagId, Collection<Long> blogPostIds);
+
+    @Modifying
+    @Query(value = "insert ignore into blog_post_tags (blog_post_id, tag_id)"
+            + " select blog_id, :tagId from blog_post where blog_id in (:blogPostIds)", nativeQuery = true)
+    int attachBlogPosts(Long tagId, Collection<Long> blogPostIds);
+
+    @Modifying
+    @Query(value = "delete from blog_post_tags where tag_id = :tagId and blog_post_id in (:blogPostIds)", nativeQuery = true)
+    int detachBlogPosts(Long tagId, Collection<Long> blogPostIds);
+
+    @Modifying
+    @Query(value = "update blog_post_tags set tag_id = :toTagId where tag_id = :fromTagId", nativeQuery = true)
+    int moveBlogPostLinks(Long fromTagId, Long toTagId);
 }
@@ -0,0 +1,29 @@
+package com.scalefocus.blogservice.repository;
+
+import com.scalefocus.blogservice.model.UserPurgeJob;
+import com.scalefocus.blogservice.model.UserPurgeStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserPurgeJobRepository extends JpaRepository<UserPurgeJob, Long> {
+    List<UserPurgeJob> findByStatusIn(Collection<UserPurgeStatus> statuses);
+
+    Optional<UserPurgeJob> findFirstByUsernameAndStatusIn(String username, Collection<UserPurgeStatus> statuses);
+
+    List<UserPurgeJob> findByOrderByJobIdDesc(Pageable pageable);
+
+    List<UserPurgeJob> findByJobIdLessThanOrderByJobIdDesc(Long before, Pageable pageable);
+
+    @Modifying
+    @Query("update UserPurgeJob j set j.postsDeleted = j.postsDeleted + :deleted, j.timeUpdated = :now where j.jobId = :jobId")
+    int addProgress(Long jobId, long deleted, LocalDateTime now);
+}
@@ -24,4 +24,6 @@ public interface BlogPostService {
 
     BlogPostDTO getBlogPostById(Long id);
 
+    String getBlogPostAuthor(Long id);
+
 }
\ No newline at end of file
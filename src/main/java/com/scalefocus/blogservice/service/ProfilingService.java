@@ -0,0 +1,13 @@
+package com.scalefocus.blogservice.service;
+
+import com.scalefocus.blogservice.dto.RecordingStatusDTO;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+
+public interface ProfilingService {
+    RecordingStatusDTO startRecording(Duration maxDuration, long maxSizeMegabytes);
+    RecordingStatusDTO getRecordingStatus();
+    Path stopRecording();
+}
@@ -1,6 +1,9 @@
 package com.scalefocus.blogservice.service;
 
+import com.scalefocus.blogservice.dto.BulkTaggingDTO;
+import com.scalefocus.blogservice.dto.BulkTaggingRequestDTO;
 import com.scalefocus.blogservice.dto.ResponseTagDTO;
+import com.scalefocus.blogservice.dto.TagMergeDTO;
 
 import java.util.List;
 
@@ -9,4 +12,7 @@ public interface TagService {
     ResponseTagDTO createTag(String tagName);
     List<ResponseTagDTO> getAllTags();
     void deleteTag(String tagName);
+    TagMergeDTO mergeTags(String fromTagName, String toTagName);
+    BulkTaggingDTO tagBlogPosts(String tagName, BulkTaggingRequestDTO request);
+    BulkTaggingDTO untagBlogPosts(String tagName, BulkTaggingRequestDTO request);
 }
@@ -0,0 +1,14 @@
+package com.scalefocus.blogservice.service;
+
+import com.scalefocus.blogservice.dto.UserPurgeJobDTO;
+
+import java.util.List;
+
+public interface UserPurgeService {
+
+    UserPurgeJobDTO schedulePurge(String username);
+
+    UserPurgeJobDTO getJob(Long jobId);
+
+    List<UserPurgeJobDTO> getJobs(Long before, int size);
+}
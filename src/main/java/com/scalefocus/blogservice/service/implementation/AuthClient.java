@@ -7,6 +7,9 @@ import com.scalefocus.blogservice.dto.UserDetailsDto;
 import com.scalefocus.blogservice.exceptions.AuthenticationFailedException;
 import com.scalefocus.blogservice.exceptions.UserDeletionFailedException;
 import com.scalefocus.blogservice.exceptions.UserDetailsRetrievalException;
+import com.scalefocus.blogservice.monitoring.jfr.AuthCallEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,10 +17,14 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.SocketTimeoutException;
 import java.util.List;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -26,8 +33,12 @@ public class AuthClient {
 
     private final ApplicationProperties applicationProperties;
 
+    private final MeterRegistry meterRegistry;
+
     private static final Logger logger = LoggerFactory.getLogger(AuthClient.class);
 
+    static final String REQUESTS_METRIC = "blog.auth.client.requests";
+
     public LoginResponse authenticate(String username, String password) {
         LoginUserDto loginUserDto = new LoginUserDto(username, password);
 
@@ -37,7 +48,7 @@ public class AuthClient {
         String authServiceUrl = applicationProperties.getLoginPath();
 
         try{
-            ResponseEntity<LoginResponse> response = restTemplate.exchange(authServiceUrl, HttpMethod.POST, entity, LoginResponse.class);
+            ResponseEntity<LoginResponse> response = timed("login", () -> restTemplate.exchange(authServiceUrl, HttpMethod.POST, entity, LoginResponse.class));
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
                 return response.getBody();
@@ -60,7 +71,7 @@ public class AuthClient {
         String authServiceValidationUrl = applicationProperties.getValidatePath();
 
         try{
-            ResponseEntity<String> response = restTemplate.exchange(authServiceValidationUrl, HttpMethod.GET, entity, String.class);
+            ResponseEntity<String> response = timed("validate", () -> restTemplate.exchange(authServiceValidationUrl, HttpMethod.GET, entity, String.class));
             return response.getStatusCode() == HttpStatus.OK;
         }catch (HttpClientErrorException e) {
             if (e.getStatusCode() == HttpStatus.UNAUTHORIZED) {
@@ -84,7 +95,7 @@ public class AuthClient {
         String userDetailsServiceUrl = applicationProperties.getUserDetailsPath();
 
         try {
-            ResponseEntity<UserDetailsDto> response = restTemplate.exchange(userDetailsServiceUrl, HttpMethod.GET, entity, UserDetailsDto.class);
+            ResponseEntity<UserDetailsDto> response = timed("user-details", () -> restTemplate.exchange(userDetailsServiceUrl, HttpMethod.GET, entity, UserDetailsDto.class));
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
                 return response.getBody();
@@ -107,8 +118,8 @@ public class AuthClient {
         String userDetailsServiceUrl = applicationProperties.getUsersPath();
 
         try {
-            ResponseEntity<UserDetailsDto[]> response = restTemplate.exchange(
-                    userDetailsServiceUrl, HttpMethod.GET, entity, UserDetailsDto[].class);
+            ResponseEntity<UserDetailsDto[]> response = timed("users", () -> restTemplate.exchange(
+                    userDetailsServiceUrl, HttpMethod.GET, entity, UserDetailsDto[].class));
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
                 return List.of(response.getBody());
@@ -132,7 +143,7 @@ public class AuthClient {
         String deleteUserUrl = applicationProperties.getDeleteUserPath(username);
 
         try{
-            ResponseEntity<Void> response = restTemplate.exchange(deleteUserUrl, HttpMethod.DELETE, entity, Void.class);
+            ResponseEntity<Void> response = timed("delete-user", () -> restTemplate.exchange(deleteUserUrl, HttpMethod.DELETE, entity, Void.class));
 
             if(response.getStatusCode() == HttpStatus.NO_CONTENT) {
                 logger.info("Successfully deleted user {}", username);
@@ -150,10 +161,57 @@ public class AuthClient {
     }
 
     public boolean canEditOrDeleteBlogPost(String token, String blogPostAuthor) {
-        UserDetailsDto userDetails = getUserDetails(token);
+        return canEditOrDeleteBlogPost(getUserDetails(token), blogPostAuthor);
+    }
+
+    public boolean canEditOrDeleteBlogPost(UserDetailsDto userDetails, String blogPostAuthor) {
         String username = userDetails.getUsername();
         List<String> roles = userDetails.getRoles();
 
         return blogPostAuthor.equals(username) || roles.contains("ROLE_ADMIN");
     }
-}
\ No newline at end of file
+
+    private <T> ResponseEntity<T> timed(String operation, Supplier<ResponseEntity<T>> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        AuthCallEvent event = new AuthCallEvent();
+        event.begin();
+        String outcome = "UNKNOWN";
+        try {
+            ResponseEntity<T> response = call.get();
+            outcome = outcome(response.getStatusCode());
+            return response;
+        } catch (HttpStatusCodeException e) {
+            outcome = outcome(e.getStatusCode());
+            throw e;
+        } catch (ResourceAccessException e) {
+            outcome = e.getCause() instanceof SocketTimeoutException ? "TIMEOUT" : "IO_ERROR";
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.outcome = outcome;
+                event.describeRequest();
+                event.commit();
+            }
+            sample.stop(Timer.builder(REQUESTS_METRIC)
+                    .description("Remote calls to the auth service")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private static String outcome(HttpStatusCode statusCode) {
+        if (statusCode.is2xxSuccessful()) {
+            return "SUCCESS";
+        }
+        if (statusCode.is4xxClientError()) {
+            return "CLIENT_ERROR";
+        }
+        if (statusCode.is5xxServerError()) {
+            return "SERVER_ERROR";
+        }
+        return "UNKNOWN";
+    }
+}
@@ -0,0 +1,30 @@
+package com.scalefocus.blogservice.service.implementation;
+
+import com.scalefocus.blogservice.repository.BlogPostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cached number of posts per author for the author profile header. Entries are evicted whenever an author gains or
+ * loses a post and otherwise expire as configured by {@code spring.cache.caffeine.spec}.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthorPostCounts {
+
+    public static final String CACHE_NAME = "authorPostCounts";
+
+    private final BlogPostRepository blogPostRepository;
+
+    @Cacheable(CACHE_NAME)
+    public long get(String author) {
+        return blogPostRepository.countByAuthor(author);
+    }
+
+    @CacheEvict(CACHE_NAME)
+    public void evict(String author) {
+        // eviction is done by the cache proxy
+    }
+}
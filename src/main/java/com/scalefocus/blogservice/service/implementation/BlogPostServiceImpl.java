@@ -1,7 +1,14 @@
 package com.scalefocus.blogservice.service.implementation;
 
+import com.scalefocus.blogservice.config.BlogPostProperties;
+import com.scalefocus.blogservice.dto.AuthorPostsDTO;
+import com.scalefocus.blogservice.dto.BlogPostBatchDTO;
 import com.scalefocus.blogservice.dto.BlogPostDTO;
+import com.scalefocus.blogservice.dto.BlogPostField;
+import com.scalefocus.blogservice.dto.BlogPostFieldsDTO;
 import com.scalefocus.blogservice.dto.CreateBlogPostDTO;
+import com.scalefocus.blogservice.dto.ResponseTagDTO;
+import com.scalefocus.blogservice.dto.SummaryText;
 import com.scalefocus.blogservice.exceptions.BlogPostCreationException;
 import com.scalefocus.blogservice.exceptions.BlogPostNotFoundException;
 import com.scalefocus.blogservice.exceptions.TagNotFoundException;
@@ -9,22 +16,34 @@ import com.scalefocus.blogservice.mapper.BlogPostMapper;
 import com.scalefocus.blogservice.model.BlogPost;
 import com.scalefocus.blogservice.model.specifications.BlogPostSpecification;
 import com.scalefocus.blogservice.model.Tag;
+import com.scalefocus.blogservice.model.projections.BlogPostSummary;
 import com.scalefocus.blogservice.repository.BlogPostRepository;
 import com.scalefocus.blogservice.repository.TagRepository;
 import com.scalefocus.blogservice.service.BlogPostService;
-import lombok.RequiredArgsConstructor;
-
+import jakarta.persistence.Tuple;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-@RequiredArgsConstructor
 @Service
 public class BlogPostServiceImpl implements BlogPostService {
     private static final Logger logger = LoggerFactory.getLogger(BlogPostServiceImpl.class);
@@ -37,14 +56,61 @@ public class BlogPostServiceImpl implements BlogPostService {
 
     private final TagRepository tagRepository;
 
+    private final AuthorPostCounts authorPostCounts;
+
+    private final BlogPostProperties blogPostProperties;
+
+    private final ExistenceFilters existenceFilters;
 
+    // lookups the existence filters can rule out start their transaction only after the check
+    private final TransactionTemplate readOnlyTransaction;
+
+    // creating a post commits inside its try block, so a failing flush or commit is reported as a creation failure
+    private final TransactionTemplate writeTransaction;
+
+    public BlogPostServiceImpl(BlogPostRepository blogPostRepository, TagRepository tagRepository, AuthorPostCounts authorPostCounts,
+                               BlogPostProperties blogPostProperties, ExistenceFilters existenceFilters,
+                               PlatformTransactionManager transactionManager) {
+        this.blogPostRepository = blogPostRepository;
+        this.tagRepository = tagRepository;
+        this.authorPostCounts = authorPostCounts;
+        this.blogPostProperties = blogPostProperties;
+        this.existenceFilters = existenceFilters;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional(readOnly = true)
     public List<BlogPostDTO> getBlogPosts() {
         logger.debug("Fetching all blog posts");
-        return blogPostMapper.blogPostsToBlogPostDTOs(blogPostRepository.findAll());
+        return toDTOs(blogPostRepository.findAll());
     }
 
-    public Page<BlogPostDTO> getFilteredBlogPosts(String tag, String parity, Integer summaryLimit, Pageable pageable) {
-        logger.info("Filtering blog posts with tag: {}, parity: {}, summaryLimit: {}", tag, parity, summaryLimit);
+    public Page<BlogPostDTO> getFilteredBlogPosts(String tag, String parity, String author, Integer summaryLimit, Pageable pageable) {
+        logger.info("Filtering blog posts with tag: {}, parity: {}, author: {}, summaryLimit: {}", tag, parity, author, summaryLimit);
+        Specification<BlogPost> spec = filterSpecification(tag, parity, author, summaryLimit);
+        return readOnlyTransaction.execute(status -> {
+            if (summaryLimit != null) {
+                return getBlogPostSummaries(spec, summaryLimit, pageable);
+            }
+
+            Page<BlogPost> blogPosts = blogPostRepository.findAll(spec, pageable);
+            logger.debug("Found {} blog posts after filtering", blogPosts.getTotalElements());
+
+            return new PageImpl<>(toDTOs(blogPosts.getContent()), blogPosts.getPageable(), blogPosts.getTotalElements());
+        });
+    }
+
+    // a crawler guessing IDs gets its 404 without a transaction, a query or a stack trace
+    private void requireMightExist(Long id) {
+        if (!existenceFilters.mightHaveBlogPost(id)) {
+            logger.debug("Blog post with ID: {} ruled out by the existence filter", id);
+            throw new BlogPostNotFoundException(id);
+        }
+    }
+
+    private static Specification<BlogPost> filterSpecification(String tag, String parity, String author, Integer summaryLimit) {
         if(summaryLimit !=null && summaryLimit<5){
             logger.error("Invalid summaryLimit: {}", summaryLimit);
             throw new IllegalArgumentException("summaryLimit must be at least 5");
@@ -69,19 +135,178 @@ public class BlogPostServiceImpl implements BlogPostService {
             spec = BlogPostSpecification.hasTag(tag);
         }
 
-        Page<BlogPost> blogPosts = blogPostRepository.findAll(spec, pageable);
-        logger.debug("Found {} blog posts after filtering", blogPosts.getTotalElements());
+        if (author != null) {
+            spec = spec.and(BlogPostSpecification.hasAuthor(author));
+        }
+        return spec;
+    }
 
-        return blogPosts.map(post -> {
-            String summaryText = summaryLimit != null ? getSummary(post.getText(), summaryLimit) : post.getText();
-            return new BlogPostDTO(post.getBlogId(), post.getTitle(), summaryText, post.getAuthor(), blogPostMapper.tagsToTagDTOs(post.getTags()));
+    public Page<BlogPostFieldsDTO> getFilteredBlogPostFields(String tag, String parity, String author, Integer summaryLimit,
+                                                             String fields, Pageable pageable) {
+        logger.info("Filtering blog post fields: {} with tag: {}, parity: {}, author: {}, summaryLimit: {}", fields, tag, parity, author, summaryLimit);
+        Specification<BlogPost> spec = filterSpecification(tag, parity, author, summaryLimit);
+        Set<BlogPostField> requested = BlogPostField.parse(fields);
+        return readOnlyTransaction.execute(status -> {
+            Page<Tuple> rows = blogPostRepository.findFields(spec, selectedAttributes(requested, summaryLimit), pageable);
+            logger.debug("Found {} blog posts after filtering", rows.getTotalElements());
+            return new PageImpl<>(toFieldsDTOs(rows.getContent(), requested, summaryLimit), rows.getPageable(), rows.getTotalElements());
         });
     }
 
+    public BlogPostFieldsDTO getBlogPostFieldsById(Long id, String fields) {
+        logger.info("Fetching fields: {} of blog post with ID: {}", fields, id);
+        Set<BlogPostField> requested = BlogPostField.parse(fields);
+        requireMightExist(id);
+        return readOnlyTransaction.execute(status -> {
+            List<Tuple> rows = blogPostRepository.findFields(BlogPostSpecification.hasId(id), selectedAttributes(requested, null), Sort.unsorted(), 1);
+            if (rows.isEmpty()) {
+                logger.error(BLOG_POST_NOT_FOUND_MESSAGE, id);
+                throw new BlogPostNotFoundException(id);
+            }
+            return toFieldsDTOs(rows, requested, null).getFirst();
+        });
+    }
+
+    // only the requested columns; a summarized text comes from the stored summary like in the full listing
+    private static List<String> selectedAttributes(Set<BlogPostField> fields, Integer summaryLimit) {
+        List<String> attributes = new ArrayList<>();
+        for (BlogPostField field : fields) {
+            if (field == BlogPostField.TEXT && summaryLimit != null) {
+                attributes.add("summary");
+                attributes.add("textLength");
+            } else if (field != BlogPostField.TAGS) {
+                attributes.add(field.getFieldName());
+            }
+        }
+        return attributes;
+    }
+
+    private List<BlogPostFieldsDTO> toFieldsDTOs(List<Tuple> rows, Set<BlogPostField> fields, Integer summaryLimit) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = rows.stream().map(row -> row.get("blogId", Long.class)).toList();
+        Map<Long, List<Tag>> tags = fields.contains(BlogPostField.TAGS) ? blogPostRepository.findTagsByBlogPostIds(ids) : Map.of();
+        boolean summarized = fields.contains(BlogPostField.TEXT) && summaryLimit != null;
+        Map<Long, String> texts = summarized ? textsNotCoveredBySummary(rows, summaryLimit) : Map.of();
+
+        return rows.stream().map(row -> {
+            Long blogId = row.get("blogId", Long.class);
+            CharSequence text = null;
+            if (summarized) {
+                text = texts.containsKey(blogId)
+                        ? SummaryText.of(texts.get(blogId), summaryLimit)
+                        : SummaryText.of(row.get("summary", String.class), row.get("textLength", Integer.class), summaryLimit);
+            } else if (fields.contains(BlogPostField.TEXT)) {
+                text = row.get("text", String.class);
+            }
+            return new BlogPostFieldsDTO(blogId,
+                    fields.contains(BlogPostField.TITLE) ? row.get("title", String.class) : null,
+                    text,
+                    fields.contains(BlogPostField.AUTHOR) ? row.get("author", String.class) : null,
+                    fields.contains(BlogPostField.TAGS) ? blogPostMapper.tagsToTagDTOs(tags.getOrDefault(blogId, List.of())) : null);
+        }).toList();
+    }
+
+    private Map<Long, String> textsNotCoveredBySummary(List<Tuple> rows, int summaryLimit) {
+        List<Long> uncoveredIds = rows.stream()
+                .filter(row -> !SummaryText.covers(row.get("summary", String.class), row.get("textLength", Integer.class), summaryLimit))
+                .map(row -> row.get("blogId", Long.class))
+                .toList();
+        return uncoveredIds.isEmpty() ? Map.of() : blogPostRepository.findTextsByBlogPostIds(uncoveredIds);
+    }
+
+    // the tags of the whole page in one query instead of initializing every post's collection
+    private List<BlogPostDTO> toDTOs(List<BlogPost> blogPosts) {
+        if (blogPosts.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<Tag>> tags = blogPostRepository.findTagsByBlogPostIds(blogPosts.stream().map(BlogPost::getBlogId).toList());
+        return blogPosts.stream().map(post -> new BlogPostDTO(post.getBlogId(), post.getTitle(), post.getText(), post.getAuthor(),
+                blogPostMapper.tagsToTagDTOs(tags.getOrDefault(post.getBlogId(), List.of())))).toList();
+    }
+
+    private Page<BlogPostDTO> getBlogPostSummaries(Specification<BlogPost> spec, int summaryLimit, Pageable pageable) {
+        Page<BlogPostSummary> summaries = blogPostRepository.findSummaries(spec, pageable);
+        logger.debug("Found {} blog posts after filtering", summaries.getTotalElements());
+        List<BlogPostDTO> content = toSummaryDTOs(summaries.getContent(), summaryLimit);
+        return new PageImpl<>(content, summaries.getPageable(), summaries.getTotalElements());
+    }
+
+    @Transactional(readOnly = true)
+    public AuthorPostsDTO getAuthorPosts(String author, Long before, int size, int summaryLimit) {
+        logger.info("Fetching posts of author: {} before ID: {}", author, before);
+        if (summaryLimit < 5) {
+            logger.error("Invalid summaryLimit: {}", summaryLimit);
+            throw new IllegalArgumentException("summaryLimit must be at least 5");
+        }
+        // newest first from the (author, blog_id) index; one extra row tells whether there is a next page
+        List<BlogPostSummary> summaries = blogPostRepository.findSummaries(
+                Specification.where(BlogPostSpecification.hasAuthor(author)).and(BlogPostSpecification.hasIdBefore(before)),
+                Sort.by(Sort.Direction.DESC, "blogId"), size + 1);
+        boolean hasNext = summaries.size() > size;
+        List<BlogPostDTO> posts = toSummaryDTOs(hasNext ? summaries.subList(0, size) : summaries, summaryLimit);
+        Long nextBefore = hasNext ? posts.getLast().getBlogId() : null;
+        return new AuthorPostsDTO(author, authorPostCounts.get(author), posts, nextBefore);
+    }
+
+    private List<BlogPostDTO> toSummaryDTOs(List<BlogPostSummary> summaries, int summaryLimit) {
+        if (summaries.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = summaries.stream().map(BlogPostSummary::blogId).toList();
+        Map<Long, List<Tag>> tags = blogPostRepository.findTagsByBlogPostIds(ids);
+        // only posts whose stored summary is missing or shorter than requested need their text
+        List<Long> uncoveredIds = summaries.stream()
+                .filter(summary -> !SummaryText.covers(summary.summary(), summary.textLength(), summaryLimit))
+                .map(BlogPostSummary::blogId)
+                .toList();
+        Map<Long, String> texts = uncoveredIds.isEmpty() ? Map.of() : blogPostRepository.findTextsByBlogPostIds(uncoveredIds);
+
+        return summaries.stream().map(summary -> new BlogPostDTO(summary.blogId(), summary.title(),
+                texts.containsKey(summary.blogId())
+                        ? SummaryText.of(texts.get(summary.blogId()), summaryLimit)
+                        : SummaryText.of(summary.summary(), summary.textLength(), summaryLimit),
+                summary.author(), blogPostMapper.tagsToTagDTOs(tags.getOrDefault(summary.blogId(), List.of())))).toList();
+    }
+
     public BlogPostDTO getBlogPostById(Long id) {
         logger.info("Fetching blog post with ID: {}", id);
-        return blogPostRepository.findById(id)
+        requireMightExist(id);
+        return readOnlyTransaction.execute(status -> blogPostRepository.findWithTagsByBlogId(id)
                 .map(blogPostMapper::blogPostToBlogPostDTO)
+                .orElseThrow(() -> {logger.error(BLOG_POST_NOT_FOUND_MESSAGE, id);
+                    return new BlogPostNotFoundException(id);}));
+    }
+
+    // one IN query for the posts and one for their tags, however many IDs are asked for
+    public BlogPostBatchDTO getBlogPostsByIds(List<Long> ids) {
+        List<Long> requestedIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        logger.info("Fetching {} blog posts by ID", requestedIds.size());
+        if (requestedIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one blog post ID is required");
+        }
+        if (requestedIds.size() > blogPostProperties.getBatchMaxIds()) {
+            logger.error("Too many blog post IDs requested: {}", requestedIds.size());
+            throw new IllegalArgumentException("At most " + blogPostProperties.getBatchMaxIds() + " blog posts can be fetched at once");
+        }
+
+        List<Long> candidateIds = requestedIds.stream().filter(existenceFilters::mightHaveBlogPost).toList();
+        Map<Long, BlogPostDTO> found = candidateIds.isEmpty() ? Map.of()
+                : readOnlyTransaction.execute(status -> toDTOs(blogPostRepository.findAllByBlogIdIn(candidateIds)).stream()
+                        .collect(Collectors.toMap(BlogPostDTO::getBlogId, Function.identity())));
+        List<BlogPostDTO> posts = requestedIds.stream().map(found::get).filter(Objects::nonNull).toList();
+        List<Long> missingIds = requestedIds.stream().filter(id -> !found.containsKey(id)).toList();
+        if (!missingIds.isEmpty()) {
+            logger.debug("Blog posts not found: {}", missingIds);
+        }
+        return new BlogPostBatchDTO(posts, missingIds);
+    }
+
+    @Transactional(readOnly = true)
+    public String getBlogPostAuthor(Long id) {
+        logger.debug("Fetching author of blog post with ID: {}", id);
+        return blogPostRepository.findAuthorByBlogId(id)
                 .orElseThrow(() -> {logger.error(BLOG_POST_NOT_FOUND_MESSAGE, id);
                     return new BlogPostNotFoundException(id);});
     }
@@ -89,11 +314,17 @@ public class BlogPostServiceImpl implements BlogPostService {
     public BlogPostDTO addBlogPost(CreateBlogPostDTO blogPostDTO, String authorUsername) {
         logger.info("Adding a new blog post with title: {}", blogPostDTO.title());
         try {
-            BlogPost blogPost = blogPostMapper.createBlogPostDTOToBlogPost(blogPostDTO);
-            blogPost.setAuthor(authorUsername);
-            BlogPost savedBlogPost = blogPostRepository.save(blogPost);
+            BlogPostDTO savedBlogPost = writeTransaction.execute(status -> {
+                BlogPost blogPost = blogPostMapper.createBlogPostDTOToBlogPost(blogPostDTO);
+                blogPost.setAuthor(authorUsername);
+                if (blogPostDTO.tags() != null) {
+                    blogPost.setTags(new ArrayList<>(resolveTags(blogPostDTO.tags())));
+                }
+                evictPostCountAfterCommit(authorUsername);
+                return blogPostMapper.blogPostToBlogPostDTO(blogPostRepository.save(blogPost));
+            });
             logger.info("Blog post saved with ID: {}", savedBlogPost.getBlogId());
-            return blogPostMapper.blogPostToBlogPostDTO(savedBlogPost);
+            return savedBlogPost;
         } catch (Exception e) {
             logger.error("Failed to create blog post", e);
             throw new BlogPostCreationException("Failed to create blog post");
@@ -101,9 +332,10 @@ public class BlogPostServiceImpl implements BlogPostService {
     }
 
     public String getSummary(String text, int summaryLimit) {
-        return text.length() > summaryLimit ? text.substring(0, summaryLimit - 4) + " ..." : text;
+        return SummaryText.of(text, summaryLimit).toString();
     }
 
+    @Transactional
     public BlogPostDTO updateBlogPost(Long id, BlogPostDTO blogPostDTO) {
         logger.info("Updating blog post with ID: {}", id);
         return blogPostRepository.findById(id)
@@ -132,13 +364,10 @@ public class BlogPostServiceImpl implements BlogPostService {
         }
 
         if (updatedBlogPostDTO.getTags() != null && !updatedBlogPostDTO.getTags().isEmpty()) {
-            List<Tag> newTags = updatedBlogPostDTO.getTags().stream()
-                    .map(tagDTO -> tagRepository.findByTagName(tagDTO.tagName())
-                            .orElseGet(() -> tagRepository.save(Tag.builder().tagName(tagDTO.tagName()).build())))
-                    .toList();
+            List<Tag> newTags = resolveTags(updatedBlogPostDTO.getTags());
 
             if (!newTags.equals(blogPost.getTags())) {
-                blogPost.setTags(newTags);
+                blogPost.setTags(new ArrayList<>(newTags));
                 updated = true;
                 logger.info("Updated blog post tags");
             }
@@ -152,48 +381,67 @@ public class BlogPostServiceImpl implements BlogPostService {
         return blogPostMapper.blogPostToBlogPostDTO(blogPost);
     }
 
+    // a name given twice would insert the same blog_post_tags row twice and fail on its primary key
+    private List<Tag> resolveTags(List<ResponseTagDTO> tagDTOs) {
+        return tagDTOs.stream()
+                .map(ResponseTagDTO::tagName)
+                .distinct()
+                .map(tagName -> tagRepository.findByTagName(tagName)
+                        .orElseGet(() -> tagRepository.save(Tag.builder().tagName(tagName).build())))
+                .toList();
+    }
+
+    @Transactional
     public BlogPostDTO addTagToBlogPost(Long blogPostId, String tagName) {
         logger.info("Adding tag '{}' to blog post with ID: {}", tagName, blogPostId);
-        return blogPostRepository.findById(blogPostId).map(blogPost -> {
-            Tag tag = tagRepository.findByTagName(tagName)
-                    .orElseGet(() -> tagRepository.save(Tag.builder().tagName(tagName).build()));
-            blogPost.getTags().add(tag);
-            blogPostRepository.save(blogPost);
-            logger.info("Tag '{}' added to blog post with ID: {}", tagName, blogPostId);
-            return blogPostMapper.blogPostToBlogPostDTO(blogPost);
-        }).orElseThrow(() -> {
-            logger.error(BLOG_POST_NOT_FOUND_MESSAGE, blogPostId);
-            return new BlogPostNotFoundException(blogPostId);
-        });
+        BlogPost blogPost = findBlogPost(blogPostId);
+        Tag tag = tagRepository.findByTagName(tagName)
+                .orElseGet(() -> tagRepository.save(Tag.builder().tagName(tagName).build()));
 
+        if (blogPostRepository.attachTag(blogPostId, tag.getTagId()) > 0) {
+            logger.info("Tag '{}' added to blog post with ID: {}", tagName, blogPostId);
+        } else {
+            logger.warn("Tag '{}' was already associated with blog post ID: {}", tagName, blogPostId);
+        }
+        return withCurrentTags(blogPost);
     }
 
+    @Transactional
     public BlogPostDTO removeTagFromBlogPost(Long blogPostId, String tagName) {
         logger.info("Removing tag '{}' from blog post with ID: {}", tagName, blogPostId);
-        BlogPost blogPost = blogPostRepository.findById(blogPostId)
-                .orElseThrow(() -> {
-            logger.error(BLOG_POST_NOT_FOUND_MESSAGE, blogPostId);
-            return new BlogPostNotFoundException(blogPostId);
-        });
-
+        BlogPost blogPost = findBlogPost(blogPostId);
         Tag tag = tagRepository.findByTagName(tagName)
                 .orElseThrow(() -> {
                     logger.error("Tag '{}' not found", tagName);
                     return new TagNotFoundException(tagName);
                 });
 
-        if (blogPost.getTags().contains(tag)) {
-            blogPost.getTags().remove(tag);
-            blogPostRepository.save(blogPost);
+        if (blogPostRepository.detachTag(blogPostId, tag.getTagId()) > 0) {
             logger.info("Tag '{}' removed from blog post with ID: {}", tagName, blogPostId);
         } else {
             logger.warn("Tag '{}' was not associated with blog post ID: {}", tagName, blogPostId);
         }
+        return withCurrentTags(blogPost);
+    }
 
-        return blogPostMapper.blogPostToBlogPostDTO(blogPost);
+    private BlogPost findBlogPost(Long blogPostId) {
+        return blogPostRepository.findById(blogPostId)
+                .orElseThrow(() -> {
+                    logger.error(BLOG_POST_NOT_FOUND_MESSAGE, blogPostId);
+                    return new BlogPostNotFoundException(blogPostId);
+                });
+    }
+
+    // the post's tag collection was not touched by attachTag/detachTag, read the tags as they are now
+    private BlogPostDTO withCurrentTags(BlogPost blogPost) {
+        List<Tag> tags = blogPostRepository.findTagsByBlogPostIds(List.of(blogPost.getBlogId()))
+                .getOrDefault(blogPost.getBlogId(), List.of());
+        return new BlogPostDTO(blogPost.getBlogId(), blogPost.getTitle(), blogPost.getText(), blogPost.getAuthor(),
+                blogPostMapper.tagsToTagDTOs(tags));
     }
 
     @Override
+    @Transactional
     public void deleteBlogPost(Long id) {
         logger.info("Deleting blog post with ID: {}", id);
         BlogPost blogPost = blogPostRepository.findById(id).orElseThrow(() -> {
@@ -201,11 +449,23 @@ public class BlogPostServiceImpl implements BlogPostService {
             return new BlogPostNotFoundException(id);
         });
 
-        for (Tag tag : blogPost.getTags()) {
-            tag.getBlogPosts().remove(blogPost);
-        }
-
+        // deleting the owning side removes the post's blog_post_tags rows, the tags' post lists are never loaded
         blogPostRepository.delete(blogPost);
+        evictPostCountAfterCommit(blogPost.getAuthor());
         logger.info("Blog post with ID: {} deleted successfully", id);
     }
+
+    // evicting before the commit lets a concurrent read cache the old count again until the entry expires
+    private void evictPostCountAfterCommit(String author) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            authorPostCounts.evict(author);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                authorPostCounts.evict(author);
+            }
+        });
+    }
 }
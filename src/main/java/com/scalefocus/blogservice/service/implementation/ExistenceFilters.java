@@ -0,0 +1,142 @@
+package com.scalefocus.blogservice.service.implementation;
+
+import com.scalefocus.blogservice.config.ExistenceFilterProperties;
+import com.scalefocus.blogservice.repository.BlogPostRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bloom filter of the existing post IDs, so lookups of IDs that were never created are answered without the database.
+ * Built once the application is ready, fed every insert of this instance and rebuilt every
+ * {@code blog.existence-filters.rebuild-interval}, which also drops deleted rows. Only IDs up to the highest one the
+ * last build loaded are ruled out, so posts created by other instances are still found. Tag names are not filtered:
+ * they have no such bound, and MySQL's collation equates names no Java normalization reproduces. Until the first
+ * build, and when disabled, every post might exist.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExistenceFilters implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(ExistenceFilters.class);
+
+    private static final int SCAN_BATCH_SIZE = 10_000;
+
+    private final BlogPostRepository blogPostRepository;
+
+    private final ExistenceFilterProperties properties;
+
+    private final ScheduledExecutorService rebuilder = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("existence-filter-rebuild").factory());
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Filters current;
+
+    // inserts during a build go here as well, the scan may already be past them
+    private volatile Filters building;
+
+    // inserts since the last build started, replayed into the next build: a row inserted before a build publishes
+    // its filters may commit only after the scan went past it
+    private volatile Queue<Long> additions = new ConcurrentLinkedQueue<>();
+
+    private record Filters(BloomFilter blogPostIds, long maxBlogPostId) {
+    }
+
+    public boolean mightHaveBlogPost(long blogPostId) {
+        Filters filters = current;
+        return filters == null || blogPostId > filters.maxBlogPostId() || filters.blogPostIds().mightContain(blogPostId);
+    }
+
+    public void addBlogPost(long blogPostId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        // logged before building is read: a build that started in between either sees the entry or is read here
+        additions.add(blogPostId);
+        // building before current: a build finishing in between has already published its filters as current
+        Filters pending = building;
+        Filters filters = current;
+        if (pending != null) {
+            pending.blogPostIds().put(blogPostId);
+        }
+        if (filters != null) {
+            filters.blogPostIds().put(blogPostId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildAndScheduleRebuilds() {
+        if (!properties.isEnabled()) {
+            logger.info("Existence filters are disabled");
+            return;
+        }
+        rebuild();
+        long interval = properties.getRebuildInterval().toMillis();
+        rebuilder.scheduleWithFixedDelay(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                logger.warn("Could not rebuild the existence filter, keeping the current one", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        // a lock instead of synchronized, the scan blocks on JDBC and would pin the virtual thread's carrier
+        rebuildLock.lock();
+        try {
+            build();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void build() {
+        long start = System.nanoTime();
+        long blogPostCount = blogPostRepository.count();
+        Filters filters = new Filters(
+                BloomFilter.create(expectedEntries(blogPostCount), properties.getFalsePositiveProbability()), 0);
+        building = filters;
+        Queue<Long> previous = additions;
+        additions = new ConcurrentLinkedQueue<>();
+
+        List<Long> ids;
+        long afterId = 0;
+        do {
+            ids = blogPostRepository.findIdsAfter(afterId, PageRequest.ofSize(SCAN_BATCH_SIZE));
+            ids.forEach(filters.blogPostIds()::put);
+            afterId = ids.isEmpty() ? afterId : ids.getLast();
+        } while (ids.size() == SCAN_BATCH_SIZE);
+        previous.forEach(filters.blogPostIds()::put);
+
+        // inserts of this instance above the scanned range are in the filter, but other instances may add IDs there
+        current = new Filters(filters.blogPostIds(), afterId);
+        building = null;
+        logger.info("Existence filter built from {} posts in {} ms", blogPostCount, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public void destroy() {
+        rebuilder.shutdownNow();
+    }
+
+    private long expectedEntries(long rows) {
+        return Math.max(properties.getMinExpectedEntries(), rows * 2);
+    }
+}
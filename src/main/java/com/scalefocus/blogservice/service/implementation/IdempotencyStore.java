@@ -0,0 +1,272 @@
+package com.scalefocus.blogservice.service.implementation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.scalefocus.blogservice.config.IdempotencyProperties;
+import com.scalefocus.blogservice.exceptions.IdempotencyKeyInUseException;
+import com.scalefocus.blogservice.exceptions.IdempotencyKeyMismatchException;
+import com.scalefocus.blogservice.model.IdempotencyRecord;
+import com.scalefocus.blogservice.model.IdempotencyRecordId;
+import com.scalefocus.blogservice.model.IdempotencyStatus;
+import com.scalefocus.blogservice.repository.IdempotencyRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Remembers the responses of write requests by user and idempotency key. A key is claimed with an insert into the
+ * idempotency_key table before the request runs and completed with its response afterwards; completed responses are
+ * also kept in a bounded in-memory cache so most replays never reach the database. A duplicate arriving while the
+ * first request still runs waits for its response instead of running the write again, on the first request's future
+ * in this instance and by polling the row when another instance holds the key.
+ */
+@Component
+public class IdempotencyStore implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private final IdempotencyProperties properties;
+
+    private final Cache<IdempotencyRecordId, StoredResponse> completed;
+
+    private final ConcurrentHashMap<IdempotencyRecordId, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService purger = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("idempotency-purge").factory());
+
+    public IdempotencyStore(IdempotencyRecordRepository idempotencyRecordRepository, IdempotencyProperties properties) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.properties = properties;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaxEntries())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+    }
+
+    /**
+     * Claims the key for the calling request, or returns the response it already produced. Waits up to
+     * {@code blog.idempotency.wait-timeout} while another request holds the key.
+     *
+     * @throws IdempotencyKeyMismatchException when the key was used for a request with a different hash
+     * @throws IdempotencyKeyInUseException    when the request holding the key did not finish in time
+     */
+    public Claim claim(String username, String key, String requestHash) {
+        IdempotencyRecordId id = new IdempotencyRecordId(username, key);
+        long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+        while (true) {
+            StoredResponse cached = completed.getIfPresent(id);
+            if (cached != null && cached.expiresAt().isAfter(LocalDateTime.now())) {
+                return Claim.replay(replay(key, cached, requestHash));
+            }
+            CompletableFuture<StoredResponse> result = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> first = inFlight.putIfAbsent(id, result);
+            if (first != null) {
+                StoredResponse response = await(key, first, deadline);
+                if (response != null) {
+                    return Claim.replay(replay(key, response, requestHash));
+                }
+                // the first request failed and released the key, the next one in line takes it over
+                continue;
+            }
+            try {
+                StoredResponse stored = claimRow(id, requestHash, deadline);
+                if (stored == null) {
+                    return new Claim(id, requestHash, result, null);
+                }
+                completed.put(id, stored);
+                finish(id, result, stored);
+                return Claim.replay(replay(key, stored, requestHash));
+            } catch (RuntimeException e) {
+                finish(id, result, null);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Stores the response of a claimed request and hands it to the duplicates waiting for it. A response above
+     * {@code blog.idempotency.max-response-size} is stored as its status alone: the write has happened, so the key must
+     * not run it again, and duplicates get the status with an empty body.
+     */
+    public void complete(Claim claim, int status, String contentType, byte[] body) {
+        boolean tooLarge = body.length > properties.getMaxResponseSize().toBytes();
+        if (tooLarge) {
+            logger.warn("Response for idempotency key {} of user {} is {} bytes, only its status is stored",
+                    claim.id.getKey(), claim.id.getUsername(), body.length);
+        }
+        String storedContentType = tooLarge ? null : contentType;
+        byte[] storedBody = tooLarge ? new byte[0] : body;
+        LocalDateTime expiresAt = LocalDateTime.now().plus(properties.getTtl());
+        StoredResponse response = new StoredResponse(claim.requestHash, status, storedContentType, storedBody, expiresAt);
+        try {
+            idempotencyRecordRepository.complete(claim.id, IdempotencyStatus.COMPLETED, status, storedContentType,
+                    tooLarge ? null : body, expiresAt);
+        } catch (RuntimeException e) {
+            // duplicates in this instance are still answered from memory, the row frees the key after the claim timeout
+            logger.error("Could not store the response for idempotency key {} of user {}", claim.id.getKey(),
+                    claim.id.getUsername(), e);
+        }
+        completed.put(claim.id, response);
+        finish(claim.id, claim.result, response);
+    }
+
+    /**
+     * Gives up a claimed key without a response, so the next request with it runs again.
+     */
+    public void release(Claim claim) {
+        try {
+            idempotencyRecordRepository.deleteByIdAndStatus(claim.id, IdempotencyStatus.IN_PROGRESS);
+        } finally {
+            finish(claim.id, claim.result, null);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void schedulePurge() {
+        long interval = properties.getPurgeInterval().toMillis();
+        purger.scheduleWithFixedDelay(() -> {
+            try {
+                purgeExpired();
+            } catch (RuntimeException e) {
+                logger.warn("Could not delete expired idempotency keys", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Deletes expired keys in batches, so the sweep never holds locks on a large part of the table.
+     */
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int batchSize = properties.getPurgeBatchSize();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = idempotencyRecordRepository.deleteExpired(now, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        if (total > 0) {
+            logger.debug("Deleted {} expired idempotency keys", total);
+        }
+        return total;
+    }
+
+    private StoredResponse claimRow(IdempotencyRecordId id, String requestHash, long deadline) {
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            // read first and insert only a missing key, every failed insert is logged as an error by Hibernate
+            IdempotencyRecord record = idempotencyRecordRepository.findById(id).orElse(null);
+            if (record == null) {
+                if (insertInProgress(id, requestHash, now)) {
+                    return null;
+                }
+                continue;
+            }
+            if (record.getExpiresAt().isBefore(now)) {
+                idempotencyRecordRepository.deleteExpired(id, now);
+                continue;
+            }
+            if (!record.getRequestHash().equals(requestHash)) {
+                throw new IdempotencyKeyMismatchException(id.getKey());
+            }
+            if (record.getStatus() == IdempotencyStatus.COMPLETED) {
+                return new StoredResponse(record.getRequestHash(), record.getResponseStatus(), record.getContentType(),
+                        record.getResponseBody() == null ? new byte[0] : record.getResponseBody(), record.getExpiresAt());
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                throw new IdempotencyKeyInUseException(id.getKey());
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IdempotencyKeyInUseException(id.getKey());
+            }
+        }
+    }
+
+    private boolean insertInProgress(IdempotencyRecordId id, String requestHash, LocalDateTime now) {
+        try {
+            idempotencyRecordRepository.insertInProgress(id.getUsername(), id.getKey(), requestHash, now,
+                    now.plus(properties.getClaimTimeout()));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // another instance inserted the key since it was read
+            return false;
+        }
+    }
+
+    private static StoredResponse await(String key, CompletableFuture<StoredResponse> first, long deadline) {
+        try {
+            return first.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInUseException(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInUseException(key);
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private static StoredResponse replay(String key, StoredResponse response, String requestHash) {
+        if (!response.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyMismatchException(key);
+        }
+        return response;
+    }
+
+    private void finish(IdempotencyRecordId id, CompletableFuture<StoredResponse> result, StoredResponse response) {
+        inFlight.remove(id, result);
+        result.complete(response);
+    }
+
+    @Override
+    public void destroy() {
+        purger.shutdownNow();
+    }
+
+    public record StoredResponse(String requestHash, int status, String contentType, byte[] body, LocalDateTime expiresAt) {
+    }
+
+    /**
+     * Either the stored response to replay, or the key held by the calling request until it is completed or released.
+     */
+    public static final class Claim {
+        private final IdempotencyRecordId id;
+        private final String requestHash;
+        private final CompletableFuture<StoredResponse> result;
+        private final StoredResponse replay;
+
+        private Claim(IdempotencyRecordId id, String requestHash, CompletableFuture<StoredResponse> result, StoredResponse replay) {
+            this.id = id;
+            this.requestHash = requestHash;
+            this.result = result;
+            this.replay = replay;
+        }
+
+        private static Claim replay(StoredResponse response) {
+            return new Claim(null, response.requestHash(), null, response);
+        }
+
+        public StoredResponse getReplay() {
+            return replay;
+        }
+    }
+}
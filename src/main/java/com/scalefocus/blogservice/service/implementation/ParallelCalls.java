@@ -0,0 +1,82 @@
+package com.scalefocus.blogservice.service.implementation;
+
+import com.scalefocus.blogservice.monitoring.QueryStatistics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Runs two independent blocking calls on virtual threads and combines their results. The first failure cancels
+ * the other call and is rethrown as is, so the usual exception handlers still apply.
+ */
+@Component
+public class ParallelCalls implements DisposableBean {
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("parallel-call-", 0).factory());
+
+    @SuppressWarnings("unchecked")
+    public <A, B, R> R both(Supplier<A> first, Supplier<B> second, BiFunction<A, B, R> combiner) {
+        CompletionService<Object> completionService = new ExecutorCompletionService<>(executor);
+        Future<Object> firstFuture = completionService.submit(inRequestContext(first));
+        Future<Object> secondFuture = completionService.submit(inRequestContext(second));
+        try {
+            for (int i = 0; i < 2; i++) {
+                Future<Object> completed = completionService.take();
+                try {
+                    completed.get();
+                } catch (ExecutionException e) {
+                    firstFuture.cancel(true);
+                    secondFuture.cancel(true);
+                    throw rethrow(e.getCause());
+                }
+            }
+            return combiner.apply((A) firstFuture.resultNow(), (B) secondFuture.resultNow());
+        } catch (InterruptedException e) {
+            firstFuture.cancel(true);
+            secondFuture.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for parallel calls", e);
+        }
+    }
+
+    private static Callable<Object> inRequestContext(Supplier<?> call) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        QueryStatistics statistics = QueryStatistics.current();
+        return () -> {
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            QueryStatistics.bind(statistics);
+            try {
+                return call.get();
+            } finally {
+                QueryStatistics.unbind();
+                RequestContextHolder.resetRequestAttributes();
+            }
+        };
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("Parallel call failed", cause);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
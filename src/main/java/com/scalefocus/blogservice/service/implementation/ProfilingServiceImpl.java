@@ -0,0 +1,119 @@
+package com.scalefocus.blogservice.service.implementation;
+
+import com.scalefocus.blogservice.dto.RecordingStatusDTO;
+import com.scalefocus.blogservice.exceptions.ProfilingRecordingException;
+import com.scalefocus.blogservice.monitoring.jfr.AuthCallEvent;
+import com.scalefocus.blogservice.monitoring.jfr.MappingEvent;
+import com.scalefocus.blogservice.monitoring.jfr.RepositoryCallEvent;
+import com.scalefocus.blogservice.service.ProfilingService;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class ProfilingServiceImpl implements ProfilingService {
+    private static final Logger logger = LoggerFactory.getLogger(ProfilingServiceImpl.class);
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private Recording recording;
+
+    @Override
+    public RecordingStatusDTO startRecording(Duration maxDuration, long maxSizeMegabytes) {
+        lock.lock();
+        try {
+            if (recording != null) {
+                logger.warn("Profiling recording {} is already active", recording.getId());
+                throw new ProfilingRecordingException("A profiling recording is already active");
+            }
+
+            Recording newRecording;
+            try {
+                newRecording = new Recording(Configuration.getConfiguration("profile"));
+            } catch (IOException | ParseException e) {
+                throw new ProfilingRecordingException("Failed to load the JFR profile configuration");
+            }
+            newRecording.setName("blogservice-admin");
+            newRecording.enable(AuthCallEvent.class);
+            newRecording.enable(RepositoryCallEvent.class);
+            newRecording.enable(MappingEvent.class);
+            newRecording.setToDisk(true);
+            newRecording.setDuration(maxDuration);
+            newRecording.setMaxAge(maxDuration);
+            newRecording.setMaxSize(maxSizeMegabytes * BYTES_PER_MEGABYTE);
+            newRecording.start();
+            recording = newRecording;
+
+            logger.info("Started profiling recording {} for at most {} ({} MB)", newRecording.getId(), maxDuration, maxSizeMegabytes);
+            return toStatus(newRecording);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public RecordingStatusDTO getRecordingStatus() {
+        lock.lock();
+        try {
+            if (recording == null) {
+                throw new ProfilingRecordingException("No profiling recording is active");
+            }
+            return toStatus(recording);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Path stopRecording() {
+        lock.lock();
+        try {
+            if (recording == null) {
+                throw new ProfilingRecordingException("No profiling recording is active");
+            }
+
+            Recording activeRecording = recording;
+            recording = null;
+            Path file = null;
+            try {
+                file = Files.createTempFile("blogservice-", ".jfr");
+                if (activeRecording.getState() == RecordingState.RUNNING) {
+                    activeRecording.stop();
+                }
+                activeRecording.dump(file);
+                logger.info("Stopped profiling recording {}, {} bytes written to {}", activeRecording.getId(), Files.size(file), file);
+                return file;
+            } catch (IOException e) {
+                if (file != null) {
+                    try {
+                        Files.deleteIfExists(file);
+                    } catch (IOException deleteFailure) {
+                        e.addSuppressed(deleteFailure);
+                    }
+                }
+                throw new UncheckedIOException("Failed to write the profiling recording", e);
+            } finally {
+                activeRecording.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private RecordingStatusDTO toStatus(Recording activeRecording) {
+        return new RecordingStatusDTO(activeRecording.getId(), activeRecording.getState().name(), activeRecording.getStartTime(),
+                activeRecording.getDuration().toSeconds(), activeRecording.getMaxSize() / BYTES_PER_MEGABYTE);
+    }
+}
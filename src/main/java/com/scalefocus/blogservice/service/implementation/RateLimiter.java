@@ -0,0 +1,91 @@
+package com.scalefocus.blogservice.service.implementation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.scalefocus.blogservice.config.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Token buckets per client and budget. Buckets are created on first use and kept in Caffeine caches that drop idle
+ * and least recently used clients, so memory stays bounded however many addresses a script rotates through.
+ */
+@Component
+public class RateLimiter {
+
+    public enum Budget {
+        ADDRESS,
+        READ,
+        WRITE
+    }
+
+    private final boolean enabled;
+
+    private final Map<Budget, Cache<String, TokenBucket>> buckets = new EnumMap<>(Budget.class);
+
+    private final Map<Budget, RateLimitProperties.Budget> budgets = new EnumMap<>(Budget.class);
+
+    private final Map<Budget, Counter> allowed = new EnumMap<>(Budget.class);
+
+    private final Map<Budget, Counter> rejected = new EnumMap<>(Budget.class);
+
+    public RateLimiter(RateLimitProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.enabled = properties.isEnabled();
+        budgets.put(Budget.ADDRESS, properties.getAddress());
+        budgets.put(Budget.READ, properties.getRead());
+        budgets.put(Budget.WRITE, properties.getWrite());
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        for (Budget budget : Budget.values()) {
+            Cache<String, TokenBucket> cache = Caffeine.newBuilder()
+                    .expireAfterAccess(properties.getIdleTimeout())
+                    .maximumSize(properties.getMaxClients())
+                    .build();
+            buckets.put(budget, cache);
+            if (registry != null) {
+                String tag = budget.name().toLowerCase(Locale.ROOT);
+                allowed.put(budget, requests(registry, tag, "allowed"));
+                rejected.put(budget, requests(registry, tag, "rejected"));
+                Gauge.builder("blog.rate.limit.clients", cache, Cache::estimatedSize)
+                        .description("Clients with a token bucket")
+                        .tag("budget", tag)
+                        .register(registry);
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Takes a token from the client's bucket.
+     *
+     * @return 0 when the request may proceed, otherwise the nanoseconds until the client has a token again
+     */
+    public long tryAcquire(String client, Budget budget) {
+        RateLimitProperties.Budget limits = budgets.get(budget);
+        TokenBucket bucket = buckets.get(budget).get(client,
+                key -> new TokenBucket(limits.getCapacity(), limits.getRefillPerSecond()));
+        long wait = bucket.tryConsume(System.nanoTime());
+        Counter counter = (wait == 0 ? allowed : rejected).get(budget);
+        if (counter != null) {
+            counter.increment();
+        }
+        return wait;
+    }
+
+    private static Counter requests(MeterRegistry registry, String budget, String outcome) {
+        return Counter.builder("blog.rate.limit.requests")
+                .description("Requests checked against the rate limit")
+                .tag("budget", budget)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -0,0 +1,74 @@
+package com.scalefocus.blogservice.service.implementation;
+
+import com.scalefocus.blogservice.config.SummaryProperties;
+import com.scalefocus.blogservice.model.BlogPost;
+import com.scalefocus.blogservice.model.BlogPostSummaryListener;
+import com.scalefocus.blogservice.repository.BlogPostRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Fills the stored summary of posts written before summaries were stored, or with a shorter summary limit.
+ * Works in id order, one transaction per batch, so it can be stopped and rerun at any time.
+ */
+@Component
+@RequiredArgsConstructor
+public class SummaryBackfillJob {
+    private static final Logger logger = LoggerFactory.getLogger(SummaryBackfillJob.class);
+
+    private final BlogPostRepository blogPostRepository;
+
+    private final BlogPostSummaryListener summaryListener;
+
+    private final SummaryProperties summaryProperties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (summaryProperties.isBackfillOnStartup()) {
+            Thread.ofVirtual().name("summary-backfill").start(() -> {
+                try {
+                    backfill();
+                } catch (RuntimeException e) {
+                    logger.error("Summary backfill failed", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Backfills all posts with a missing or stale summary and returns how many were updated.
+     */
+    public int backfill() {
+        int updated = 0;
+        long lastId = 0;
+        while (true) {
+            long afterId = lastId;
+            List<BlogPost> batch = transactionTemplate.execute(status -> {
+                List<BlogPost> posts = blogPostRepository.findWithStaleSummary(afterId, summaryProperties.getLimit(),
+                        PageRequest.ofSize(summaryProperties.getBackfillBatchSize()));
+                posts.forEach(summaryListener::updateSummary);
+                return posts;
+            });
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            updated += batch.size();
+            lastId = batch.get(batch.size() - 1).getBlogId();
+            logger.debug("Backfilled summaries up to blog post ID: {}", lastId);
+        }
+        if (updated > 0) {
+            logger.info("Backfilled summaries of {} blog posts", updated);
+        }
+        return updated;
+    }
+}
@@ -1,20 +1,35 @@
 package com.scalefocus.blogservice.service.implementation;
 
+import com.scalefocus.blogservice.config.TagProperties;
+import com.scalefocus.blogservice.dto.BulkTaggingDTO;
+import com.scalefocus.blogservice.dto.BulkTaggingRequestDTO;
 import com.scalefocus.blogservice.dto.ResponseTagDTO;
+import com.scalefocus.blogservice.dto.TagMergeDTO;
+import com.scalefocus.blogservice.dto.TaggingOutcome;
 import com.scalefocus.blogservice.exceptions.TagAlreadyExistsException;
 import com.scalefocus.blogservice.exceptions.TagNotFoundException;
 import com.scalefocus.blogservice.mapper.BlogPostMapper;
 import com.scalefocus.blogservice.model.BlogPost;
 import com.scalefocus.blogservice.model.Tag;
+import com.scalefocus.blogservice.model.specifications.BlogPostSpecification;
+import com.scalefocus.blogservice.repository.BlogPostRepository;
 import com.scalefocus.blogservice.repository.TagRepository;
 import com.scalefocus.blogservice.service.TagService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @Service
@@ -22,7 +37,11 @@ public class TagServiceImpl implements TagService {
     private static final Logger logger = LoggerFactory.getLogger(TagServiceImpl.class);
     private static final BlogPostMapper blogPostMapper = BlogPostMapper.INSTANCE;
     private final TagRepository tagRepository;
+    private final BlogPostRepository blogPostRepository;
+    private final TagProperties tagProperties;
+    private final TransactionTemplate transactionTemplate;
 
+    @Transactional
     public ResponseTagDTO createTag(String tagName) {
         logger.info("Creating new tag: {}", tagName);
         tagRepository.findByTagName(tagName).ifPresent(s ->  {
@@ -36,24 +55,157 @@ public class TagServiceImpl implements TagService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ResponseTagDTO> getAllTags() {
         logger.info("Fetching all tags");
-        return blogPostMapper.tagsToTagDTOs(tagRepository.findAll());
+        return blogPostMapper.tagsToTagDTOs(tagRepository.findAllReadOnly());
     }
 
+    // no surrounding transaction, every unlink chunk commits on its own and only the final step holds locks
     @Override
     public void deleteTag(String tagName) {
         logger.info("Deleting tag: {}", tagName);
-        Tag tag = tagRepository.findByTagName(tagName).orElseThrow(() ->  {
-            logger.error("Tag with name '{}' not found", tagName);
-            return new TagNotFoundException(tagName);
+        Tag tag = findTag(tagName);
+
+        // unlink in short chunks instead of loading every post that carries the tag
+        int batchSize = tagProperties.getUnlinkBatchSize();
+        long unlinked = 0;
+        int deleted;
+        do {
+            deleted = tagRepository.deleteBlogPostLinks(tag.getTagId(), batchSize);
+            unlinked += deleted;
+        } while (deleted == batchSize);
+
+        // links added while the chunks ran would fail the delete on the foreign key; locking the tag row holds back
+        // new links until the last sweep and the delete commit together
+        Integer late = transactionTemplate.execute(status -> {
+            Tag locked = tagRepository.findByIdForUpdate(tag.getTagId()).orElseThrow(() -> new TagNotFoundException(tagName));
+            int remaining = tagRepository.deleteAllBlogPostLinks(locked.getTagId());
+            tagRepository.delete(locked);
+            return remaining;
         });
+        unlinked += late == null ? 0 : late;
+        logger.info("Tag '{}' deleted successfully, removed from {} posts", tagName, unlinked);
+    }
 
-        for (BlogPost blogPost : tag.getBlogPosts()) {
-            blogPost.getTags().remove(tag);
+    /**
+     * Moves every post of {@code fromTagName} to {@code toTagName} and deletes the source tag. Posts that carry both
+     * tags only lose the source link, so no post ends up with the target tag twice.
+     */
+    @Override
+    @Transactional
+    public TagMergeDTO mergeTags(String fromTagName, String toTagName) {
+        logger.info("Merging tag '{}' into '{}'", fromTagName, toTagName);
+        if (fromTagName.equals(toTagName)) {
+            throw new IllegalArgumentException("Cannot merge tag " + fromTagName + " into itself");
         }
+        Tag from = findTag(fromTagName);
+        Tag to = findTag(toTagName);
+        // the row locks hold back new links to the source and a delete of the target until the merge commits; taken
+        // in ID order, so two merges of the same tags in opposite directions wait instead of deadlocking
+        boolean fromFirst = from.getTagId() < to.getTagId();
+        lockTag(fromFirst ? from : to);
+        lockTag(fromFirst ? to : from);
+
+        int alreadyTagged = tagRepository.deleteBlogPostLinksAlsoTaggedWith(from.getTagId(), to.getTagId());
+        int moved = tagRepository.moveBlogPostLinks(from.getTagId(), to.getTagId());
+        tagRepository.delete(from);
+
+        logger.info("Tag '{}' merged into '{}', {} posts moved and {} already tagged", fromTagName, toTagName, moved, alreadyTagged);
+        return new TagMergeDTO(blogPostMapper.tagToTagDTO(to), moved, alreadyTagged);
+    }
+
+    @Override
+    public BulkTaggingDTO tagBlogPosts(String tagName, BulkTaggingRequestDTO request) {
+        logger.info("Tagging posts with '{}': {}", tagName, request);
+        List<Long> blogPostIds = resolveBlogPostIds(request);
+        Tag tag = tagRepository.findByTagName(tagName)
+                .orElseGet(() -> tagRepository.save(Tag.builder().tagName(tagName).build()));
+
+        List<BulkTaggingDTO.PostOutcome> outcomes = new ArrayList<>(blogPostIds.size());
+        for (List<Long> chunk : chunks(blogPostIds)) {
+            outcomes.addAll(transactionTemplate.execute(status -> {
+                Set<Long> existing = new HashSet<>(blogPostRepository.findExistingIds(chunk));
+                Set<Long> tagged = new HashSet<>(tagRepository.findTaggedBlogPostIds(tag.getTagId(), chunk));
+                tagRepository.attachBlogPosts(tag.getTagId(), chunk);
+                return chunk.stream().map(id -> new BulkTaggingDTO.PostOutcome(id, !existing.contains(id) ? TaggingOutcome.NOT_FOUND
+                        : tagged.contains(id) ? TaggingOutcome.ALREADY_TAGGED : TaggingOutcome.ADDED)).toList();
+            }));
+        }
+        return toBulkTaggingDTO(tagName, outcomes, TaggingOutcome.ADDED);
+    }
+
+    @Override
+    public BulkTaggingDTO untagBlogPosts(String tagName, BulkTaggingRequestDTO request) {
+        logger.info("Untagging posts from '{}': {}", tagName, request);
+        List<Long> blogPostIds = resolveBlogPostIds(request);
+        Tag tag = findTag(tagName);
+
+        List<BulkTaggingDTO.PostOutcome> outcomes = new ArrayList<>(blogPostIds.size());
+        for (List<Long> chunk : chunks(blogPostIds)) {
+            outcomes.addAll(transactionTemplate.execute(status -> {
+                Set<Long> existing = new HashSet<>(blogPostRepository.findExistingIds(chunk));
+                Set<Long> tagged = new HashSet<>(tagRepository.findTaggedBlogPostIds(tag.getTagId(), chunk));
+                tagRepository.detachBlogPosts(tag.getTagId(), chunk);
+                return chunk.stream().map(id -> new BulkTaggingDTO.PostOutcome(id, !existing.contains(id) ? TaggingOutcome.NOT_FOUND
+                        : tagged.contains(id) ? TaggingOutcome.REMOVED : TaggingOutcome.NOT_TAGGED)).toList();
+            }));
+        }
+        return toBulkTaggingDTO(tagName, outcomes, TaggingOutcome.REMOVED);
+    }
 
-        tagRepository.delete(tag);
-        logger.info("Tag '{}' deleted successfully", tagName);
+    private List<Long> resolveBlogPostIds(BulkTaggingRequestDTO request) {
+        boolean hasIds = request.blogPostIds() != null && !request.blogPostIds().isEmpty();
+        if (hasIds == request.hasFilter()) {
+            throw new IllegalArgumentException("Either blogPostIds or the tag/parity filter must be given");
+        }
+        String parity = request.parity();
+        if (parity != null && !parity.equalsIgnoreCase("even") && !parity.equalsIgnoreCase("odd")) {
+            logger.error("Invalid parity value: {}", parity);
+            throw new IllegalArgumentException("Invalid value for parity. It must be 'even' or 'odd'.");
+        }
+
+        int maxPosts = tagProperties.getBulkMaxPosts();
+        List<Long> blogPostIds;
+        if (hasIds) {
+            blogPostIds = new ArrayList<>(new LinkedHashSet<>(request.blogPostIds()));
+        } else {
+            Specification<BlogPost> spec = Specification.where(BlogPostSpecification.hasTag(request.tag()))
+                    .and(BlogPostSpecification.hasParity(parity));
+            blogPostIds = blogPostRepository.findIds(spec, Sort.by("blogId"), maxPosts + 1);
+        }
+        if (blogPostIds.size() > maxPosts) {
+            throw new IllegalArgumentException("At most " + maxPosts + " posts can be tagged or untagged in one call");
+        }
+        return blogPostIds;
+    }
+
+    private List<List<Long>> chunks(List<Long> blogPostIds) {
+        int batchSize = tagProperties.getBulkBatchSize();
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < blogPostIds.size(); from += batchSize) {
+            chunks.add(blogPostIds.subList(from, Math.min(from + batchSize, blogPostIds.size())));
+        }
+        return chunks;
+    }
+
+    private BulkTaggingDTO toBulkTaggingDTO(String tagName, List<BulkTaggingDTO.PostOutcome> outcomes, TaggingOutcome change) {
+        int changed = (int) outcomes.stream().filter(outcome -> outcome.outcome() == change).count();
+        logger.info("Tag '{}': {} of {} posts changed", tagName, changed, outcomes.size());
+        return new BulkTaggingDTO(tagName, changed, outcomes);
+    }
+
+    private void lockTag(Tag tag) {
+        tagRepository.findByIdForUpdate(tag.getTagId()).orElseThrow(() -> {
+            logger.error("Tag with name '{}' was deleted concurrently", tag.getTagName());
+            return new TagNotFoundException(tag.getTagName());
+        });
+    }
+
+    private Tag findTag(String tagName) {
+        return tagRepository.findByTagName(tagName).orElseThrow(() ->  {
+            logger.error("Tag with name '{}' not found", tagName);
+            return new TagNotFoundException(tagName);
+        });
     }
 }
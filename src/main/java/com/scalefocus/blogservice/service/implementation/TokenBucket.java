@@ -0,0 +1,44 @@
+package com.scalefocus.blogservice.service.implementation;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket holding up to {@code capacity} tokens that refill at a fixed rate. Instead of a token count
+ * and a refill timestamp it keeps the single instant at which the bucket is full again, so taking a token is one
+ * compare-and-set on a long and never needs a refill step.
+ */
+public final class TokenBucket {
+
+    private final long nanosPerToken;
+
+    private final long burstNanos;
+
+    private final AtomicLong fullAt = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucket(int capacity, double tokensPerSecond) {
+        if (capacity < 1 || !(tokensPerSecond > 0)) {
+            throw new IllegalArgumentException("Capacity and refill rate must be positive");
+        }
+        this.nanosPerToken = Math.max(1, (long) (1_000_000_000d / tokensPerSecond));
+        this.burstNanos = nanosPerToken * capacity;
+    }
+
+    /**
+     * Takes a token at {@code now}, a {@link System#nanoTime()} reading.
+     *
+     * @return 0 when a token was taken, otherwise the nanoseconds until one is available
+     */
+    public long tryConsume(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + nanosPerToken;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.scalefocus.blogservice.service.implementation;
+
+import com.scalefocus.blogservice.config.UserPurgeProperties;
+import com.scalefocus.blogservice.dto.UserPurgeJobDTO;
+import com.scalefocus.blogservice.exceptions.UserPurgeJobNotFoundException;
+import com.scalefocus.blogservice.model.UserPurgeJob;
+import com.scalefocus.blogservice.model.UserPurgeStatus;
+import com.scalefocus.blogservice.repository.BlogPostRepository;
+import com.scalefocus.blogservice.repository.UserPurgeJobRepository;
+import com.scalefocus.blogservice.service.UserPurgeService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Deletes the posts of a deleted user in the background. Each batch removes the tag links and the posts with two
+ * bulk statements and records its progress in the same transaction, so a job interrupted by a shutdown resumes
+ * where it stopped on the next start.
+ */
+@RequiredArgsConstructor
+@Service
+public class UserPurgeServiceImpl implements UserPurgeService, DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(UserPurgeServiceImpl.class);
+
+    private static final Set<UserPurgeStatus> UNFINISHED = EnumSet.of(UserPurgeStatus.PENDING, UserPurgeStatus.RUNNING);
+
+    private final UserPurgeJobRepository userPurgeJobRepository;
+
+    private final BlogPostRepository blogPostRepository;
+
+    private final AuthorPostCounts authorPostCounts;
+
+    private final UserPurgeProperties properties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("user-purge-", 0).factory());
+
+    private final Set<Long> runningJobIds = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public UserPurgeJobDTO schedulePurge(String username) {
+        UserPurgeJob job = userPurgeJobRepository.findFirstByUsernameAndStatusIn(username, UNFINISHED)
+                .orElseGet(() -> userPurgeJobRepository.save(UserPurgeJob.builder()
+                        .username(username)
+                        .status(UserPurgeStatus.PENDING)
+                        .build()));
+        logger.info("Scheduled purge job {} for the posts of user {}", job.getJobId(), username);
+        submit(job.getJobId());
+        return toDTO(job);
+    }
+
+    @Override
+    public UserPurgeJobDTO getJob(Long jobId) {
+        return userPurgeJobRepository.findById(jobId)
+                .map(this::toDTO)
+                .orElseThrow(() -> {
+                    logger.error("User purge job with ID: {} not found", jobId);
+                    return new UserPurgeJobNotFoundException(jobId);
+                });
+    }
+
+    @Override
+    public List<UserPurgeJobDTO> getJobs(Long before, int size) {
+        List<UserPurgeJob> jobs = before == null
+                ? userPurgeJobRepository.findByOrderByJobIdDesc(PageRequest.ofSize(size))
+                : userPurgeJobRepository.findByJobIdLessThanOrderByJobIdDesc(before, PageRequest.ofSize(size));
+        return jobs.stream().map(this::toDTO).toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        for (UserPurgeJob job : userPurgeJobRepository.findByStatusIn(UNFINISHED)) {
+            logger.info("Resuming purge job {} for user {}", job.getJobId(), job.getUsername());
+            submit(job.getJobId());
+        }
+    }
+
+    private void submit(Long jobId) {
+        // one worker per job in this instance; a second instance purging the same user only deletes rows already gone
+        if (runningJobIds.add(jobId)) {
+            executor.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    runningJobIds.remove(jobId);
+                }
+            });
+        }
+    }
+
+    private void run(Long jobId) {
+        UserPurgeJob job = userPurgeJobRepository.findById(jobId).orElseThrow(() -> new UserPurgeJobNotFoundException(jobId));
+        String username = job.getUsername();
+        updateStatus(job, UserPurgeStatus.RUNNING, null);
+        try {
+            while (true) {
+                long started = System.nanoTime();
+                Integer deleted = transactionTemplate.execute(status -> deleteBatch(jobId, username));
+                if (deleted == null || deleted == 0) {
+                    break;
+                }
+                authorPostCounts.evict(username);
+                logger.debug("Purge job {} deleted {} posts of user {}", jobId, deleted, username);
+                Duration batchTime = Duration.ofNanos(System.nanoTime() - started);
+                Thread.sleep(max(properties.getBatchPause(), batchTime));
+            }
+            updateStatus(userPurgeJobRepository.findById(jobId).orElseThrow(), UserPurgeStatus.COMPLETED, null);
+            logger.info("Purge job {} for user {} completed", jobId, username);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.info("Purge job {} for user {} interrupted, it resumes on the next start", jobId, username);
+        } catch (RuntimeException e) {
+            logger.error("Purge job {} for user {} failed", jobId, username, e);
+            updateStatus(userPurgeJobRepository.findById(jobId).orElseThrow(), UserPurgeStatus.FAILED, e.getMessage());
+        }
+    }
+
+    private int deleteBatch(Long jobId, String username) {
+        List<Long> ids = blogPostRepository.findIdsByAuthor(username, PageRequest.ofSize(properties.getBatchSize()));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        blogPostRepository.deleteTagLinksByBlogPostIds(ids);
+        blogPostRepository.deleteAllByIdInBatch(ids);
+        userPurgeJobRepository.addProgress(jobId, ids.size(), LocalDateTime.now());
+        return ids.size();
+    }
+
+    private void updateStatus(UserPurgeJob job, UserPurgeStatus status, String error) {
+        job.setStatus(status);
+        job.setTimeUpdated(LocalDateTime.now());
+        if (status == UserPurgeStatus.COMPLETED || status == UserPurgeStatus.FAILED) {
+            job.setTimeFinished(job.getTimeUpdated());
+        }
+        if (error != null) {
+            job.setError(error.length() > 1000 ? error.substring(0, 1000) : error);
+        }
+        userPurgeJobRepository.save(job);
+    }
+
+    private UserPurgeJobDTO toDTO(UserPurgeJob job) {
+        // only a running job is worth a live count, the others report what they stored
+        Long remaining = switch (job.getStatus()) {
+            case RUNNING -> blogPostRepository.countByAuthor(job.getUsername());
+            case COMPLETED -> 0L;
+            case PENDING, FAILED -> null;
+        };
+        return new UserPurgeJobDTO(job.getJobId(), job.getUsername(), job.getStatus().name(), job.getPostsDeleted(), remaining,
+                job.getTimeCreated(), job.getTimeUpdated(), job.getTimeFinished(), job.getError());
+    }
+
+    private static Duration max(Duration first, Duration second) {
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,24 @@
+-- Schema as created by hibernate.ddl-auto=update before migrations were introduced.
+-- Existing databases are baselined at this version and skip it.
+create table blog_post (
+    blog_id bigint not null auto_increment,
+    author varchar(255),
+    text varchar(255),
+    title varchar(255),
+    primary key (blog_id)
+) engine=InnoDB;
+
+create table tag (
+    tag_id bigint not null auto_increment,
+    tag_name varchar(255),
+    time_created datetime(6) not null,
+    primary key (tag_id),
+    constraint uk_tag_tag_name unique (tag_name)
+) engine=InnoDB;
+
+create table blog_post_tags (
+    blog_post_id bigint not null,
+    tag_id bigint not null,
+    constraint fk_blog_post_tags_blog_post foreign key (blog_post_id) references blog_post (blog_id),
+    constraint fk_blog_post_tags_tag foreign key (tag_id) references tag (tag_id)
+) engine=InnoDB;
@@ -0,0 +1,5 @@
+-- Stored summaries (see BlogPostSummaryListener) and the header-tagged text encoding of CompressedTextConverter.
+-- Existing VARCHAR text keeps its UTF-8 bytes and is read as a legacy row without a header.
+alter table blog_post add column summary varchar(255);
+alter table blog_post add column text_length int;
+alter table blog_post modify column text longblob;
@@ -0,0 +1,6 @@
+-- hasTag / findByTags_TagName: tag_name -> tag_id through uk_tag_tag_name, then blog_post_tags by tag_id.
+-- The composite index covers the join table lookup without touching the rows.
+create index idx_blog_post_tags_tag_post on blog_post_tags (tag_id, blog_post_id);
+
+-- Lookups and keyset pagination of a single author's posts.
+create index idx_blog_post_author on blog_post (author, blog_id);
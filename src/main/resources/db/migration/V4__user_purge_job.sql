@@ -0,0 +1,14 @@
+-- Progress of the background purge of a deleted user's posts, see UserPurgeServiceImpl.
+create table user_purge_job (
+    job_id bigint not null auto_increment,
+    username varchar(255) not null,
+    status varchar(20) not null,
+    posts_deleted bigint not null,
+    time_created datetime(6) not null,
+    time_updated datetime(6),
+    time_finished datetime(6),
+    error varchar(1000),
+    primary key (job_id)
+) engine=InnoDB;
+
+create index idx_user_purge_job_status on user_purge_job (status);
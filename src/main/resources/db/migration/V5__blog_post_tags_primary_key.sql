@@ -0,0 +1,12 @@
+-- The join table was a Hibernate bag without a key, so the same post/tag pair could be stored more than once.
+-- Keep one row per pair, then key the table so single tag attach/detach can write it directly (insert ignore).
+create table blog_post_tags_distinct (
+    blog_post_id bigint not null,
+    tag_id bigint not null
+);
+insert into blog_post_tags_distinct (blog_post_id, tag_id) select distinct blog_post_id, tag_id from blog_post_tags;
+delete from blog_post_tags;
+insert into blog_post_tags (blog_post_id, tag_id) select blog_post_id, tag_id from blog_post_tags_distinct;
+drop table blog_post_tags_distinct;
+
+alter table blog_post_tags add primary key (blog_post_id, tag_id);
@@ -0,0 +1,16 @@
+-- Responses of write requests sent with an Idempotency-Key header, see IdempotencyStore.
+-- Rows expire after blog.idempotency.ttl and are deleted in batches by expires_at.
+create table idempotency_key (
+    username varchar(255) not null,
+    idempotency_key varchar(255) not null,
+    request_hash varchar(64) not null,
+    status varchar(20) not null,
+    response_status int,
+    content_type varchar(255),
+    response_body longblob,
+    time_created datetime(6) not null,
+    expires_at datetime(6) not null,
+    primary key (username, idempotency_key)
+) engine=InnoDB;
+
+create index idx_idempotency_key_expires_at on idempotency_key (expires_at);
@@ -0,0 +1,3 @@
+-- Summary limit each stored summary was cut for, so the backfill can tell a summary shortened by a surrogate pair
+-- from one cut for a smaller limit. Rows without it are rewritten once by SummaryBackfillJob.
+alter table blog_post add column summary_limit int;
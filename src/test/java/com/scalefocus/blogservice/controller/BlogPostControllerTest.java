@@ -3,9 +3,11 @@ package com.scalefocus.blogservice.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.scalefocus.blogservice.config.SecurityConfig;
 import com.scalefocus.blogservice.dto.*;
+import com.scalefocus.blogservice.exceptions.BlogPostCreationException;
 import com.scalefocus.blogservice.exceptions.BlogPostNotFoundException;
 import com.scalefocus.blogservice.service.implementation.AuthClient;
 import com.scalefocus.blogservice.service.implementation.BlogPostServiceImpl;
+import com.scalefocus.blogservice.service.implementation.UserPurgeServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,13 +24,23 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
-
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -51,6 +63,9 @@ class BlogPostControllerTest {
     @MockBean
     private AuthClient authClient;
 
+    @MockBean
+    private UserPurgeServiceImpl userPurgeService;
+
 
     @Autowired
     private ObjectMapper objectMapper;
@@ -120,12 +135,107 @@ class BlogPostControllerTest {
     }
 
 
+    @Test
+    void testGetFilteredBlogPosts_WithAuthor() throws Exception {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<BlogPostDTO> blogPostPage = new PageImpl<>(List.of(blogPostDTO));
+
+        when(blogPostService.getFilteredBlogPosts(null, null, "testuser", null, pageable))
+                .thenReturn(blogPostPage);
+
+        mockMvc.perform(get("/api/blogposts")
+                        .param("author", "testuser")
+                        .param("page", "0")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value(blogPostDTO.getTitle()));
+    }
+
+    @Test
+    void testGetBlogPostFields() throws Exception {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<BlogPostFieldsDTO> fieldsPage = new PageImpl<>(List.of(new BlogPostFieldsDTO(1L, "Test Title 1", null, "testuser", null)));
+
+        when(blogPostService.getFilteredBlogPostFields(null, null, null, null, "title,author", pageable)).thenReturn(fieldsPage);
+
+        mockMvc.perform(get("/api/blogposts")
+                        .param("fields", "title,author")
+                        .param("page", "0")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Test Title 1"))
+                .andExpect(jsonPath("$.content[0].author").value("testuser"))
+                .andExpect(jsonPath("$.content[0].text").doesNotExist())
+                .andExpect(jsonPath("$.content[0].tags").doesNotExist());
+        verify(blogPostService, never()).getFilteredBlogPosts(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testGetBlogPostFieldsById_UnknownField() throws Exception {
+        when(blogPostService.getBlogPostFieldsById(1L, "title,secret"))
+                .thenThrow(new IllegalArgumentException("Unknown field: secret. Supported fields are blogId, title, text, author and tags."));
+
+        mockMvc.perform(get("/api/blogposts/1").param("fields", "title,secret"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorMessage").value("Unknown field: secret. Supported fields are blogId, title, text, author and tags."));
+    }
+
+    @Test
+    void testGetBlogPostsByIds() throws Exception {
+        when(blogPostService.getBlogPostsByIds(List.of(1L, 5L))).thenReturn(new BlogPostBatchDTO(List.of(blogPostDTO), List.of(5L)));
+
+        mockMvc.perform(get("/api/blogposts").param("ids", "1,5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts[0].title").value("Test Title 1"))
+                .andExpect(jsonPath("$.missingIds[0]").value(5));
+    }
+
+    @Test
+    void testLookupBlogPosts_WithoutToken() throws Exception {
+        when(blogPostService.getBlogPostsByIds(List.of(1L, 5L))).thenReturn(new BlogPostBatchDTO(List.of(blogPostDTO), List.of(5L)));
+
+        mockMvc.perform(post("/api/blogposts/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [1, 5]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts[0].title").value("Test Title 1"))
+                .andExpect(jsonPath("$.missingIds[0]").value(5));
+        verifyNoInteractions(authClient);
+    }
+
+    @Test
+    void testLookupBlogPosts_EmptyIds() throws Exception {
+        mockMvc.perform(post("/api/blogposts/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": []}"))
+                .andExpect(status().isBadRequest());
+        verify(blogPostService, never()).getBlogPostsByIds(any());
+    }
+
+    @Test
+    void testGetAuthorPosts() throws Exception {
+        when(blogPostService.getAuthorPosts("testuser", 10L, 20, 30))
+                .thenReturn(new AuthorPostsDTO("testuser", 2, List.of(blogPostDTO2, blogPostDTO), null));
+
+        mockMvc.perform(get("/api/authors/testuser/posts").param("before", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.postCount").value(2))
+                .andExpect(jsonPath("$.posts[0].blogId").value(2))
+                .andExpect(jsonPath("$.nextBefore").doesNotExist());
+    }
+
+    @Test
+    void testGetAuthorPosts_SizeTooLarge() throws Exception {
+        mockMvc.perform(get("/api/authors/testuser/posts").param("size", "1000"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testGetFilteredBlogPosts_WithTagOnly() throws Exception {
         Pageable pageable = PageRequest.of(0, 10);
         Page<BlogPostDTO> blogPostPage = new PageImpl<>(List.of(blogPostDTO));
 
-        when(blogPostService.getFilteredBlogPosts("New Tag", null, null, pageable))
+        when(blogPostService.getFilteredBlogPosts("New Tag", null, null, null, pageable))
                 .thenReturn(blogPostPage);
 
         mockMvc.perform(get("/api/blogposts")
@@ -142,7 +252,7 @@ class BlogPostControllerTest {
         Pageable pageable = PageRequest.of(0, 10);
         Page<BlogPostDTO> blogPostPage = new PageImpl<>(List.of(blogPostDTO, blogPostDTO2));
 
-        when(blogPostService.getFilteredBlogPosts(null, "even", null, pageable))
+        when(blogPostService.getFilteredBlogPosts(null, "even", null, null, pageable))
                 .thenReturn(blogPostPage);
 
         mockMvc.perform(get("/api/blogposts")
@@ -160,7 +270,7 @@ class BlogPostControllerTest {
         Pageable pageable = PageRequest.of(0, 10);
         Page<BlogPostDTO> blogPostPage = new PageImpl<>(List.of(blogPostDTO, blogPostDTO2));
 
-        when(blogPostService.getFilteredBlogPosts(null, null, 30, pageable))
+        when(blogPostService.getFilteredBlogPosts(null, null, null, 30, pageable))
                 .thenReturn(blogPostPage);
 
         mockMvc.perform(get("/api/blogposts")
@@ -178,7 +288,7 @@ class BlogPostControllerTest {
         Pageable pageable = PageRequest.of(0, 10);
         Page<BlogPostDTO> blogPostPage = new PageImpl<>(List.of(blogPostDTO));
 
-        when(blogPostService.getFilteredBlogPosts(null, "even", 30, pageable))
+        when(blogPostService.getFilteredBlogPosts(null, "even", null, 30, pageable))
                 .thenReturn(blogPostPage);
 
         mockMvc.perform(get("/api/blogposts")
@@ -196,7 +306,7 @@ class BlogPostControllerTest {
         Pageable pageable = PageRequest.of(0, 10);
         Page<BlogPostDTO> blogPostPage = new PageImpl<>(List.of(blogPostDTO));
 
-        when(blogPostService.getFilteredBlogPosts("New Tag", null, 30, pageable))
+        when(blogPostService.getFilteredBlogPosts("New Tag", null, null, 30, pageable))
                 .thenReturn(blogPostPage);
 
         mockMvc.perform(get("/api/blogposts")
@@ -214,7 +324,7 @@ class BlogPostControllerTest {
         Pageable pageable = PageRequest.of(0, 10);
         Page<BlogPostDTO> blogPostPage = new PageImpl<>(List.of(blogPostDTO, blogPostDTO2));
 
-        when(blogPostService.getFilteredBlogPosts(null, null, null, pageable))
+        when(blogPostService.getFilteredBlogPosts(null, null, null, null, pageable))
                 .thenReturn(blogPostPage);
 
         mockMvc.perform(get("/api/blogposts")
@@ -285,6 +395,136 @@ class BlogPostControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    void testAddBlogPost_IdempotencyKeyReplay() throws Exception {
+        BlogPostDTO created = new BlogPostDTO(4L, "New Title", "New Content", Collections.emptyList());
+        String authHeader = authenticateAsTestUser();
+        String key = UUID.randomUUID().toString();
+        String body = objectMapper.writeValueAsString(new CreateBlogPostDTO("New Title", "New Content", null));
+
+        when(blogPostService.addBlogPost(any(CreateBlogPostDTO.class), eq("testuser"))).thenReturn(created);
+
+        mockMvc.perform(post("/api/blogposts").header("Authorization", authHeader).header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andExpect(jsonPath("$.blogId").value(4));
+
+        mockMvc.perform(post("/api/blogposts").header("Authorization", authHeader).header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.blogId").value(4))
+                .andExpect(jsonPath("$.title").value("New Title"));
+
+        verify(blogPostService, times(1)).addBlogPost(any(CreateBlogPostDTO.class), eq("testuser"));
+    }
+
+    @Test
+    void testAddBlogPost_OversizedResponseIsNotRunAgain() throws Exception {
+        // above blog.idempotency.max-response-size, the response body is not stored
+        BlogPostDTO created = new BlogPostDTO(4L, "New Title", "x".repeat(70_000), Collections.emptyList());
+        String authHeader = authenticateAsTestUser();
+        String key = UUID.randomUUID().toString();
+        String body = objectMapper.writeValueAsString(new CreateBlogPostDTO("New Title", "New Content", null));
+
+        when(blogPostService.addBlogPost(any(CreateBlogPostDTO.class), eq("testuser"))).thenReturn(created);
+
+        mockMvc.perform(post("/api/blogposts").header("Authorization", authHeader).header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.blogId").value(4));
+
+        mockMvc.perform(post("/api/blogposts").header("Authorization", authHeader).header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(content().string(""));
+
+        verify(blogPostService, times(1)).addBlogPost(any(CreateBlogPostDTO.class), eq("testuser"));
+    }
+
+    @Test
+    void testAddBlogPost_IdempotencyKeyReusedForDifferentRequest() throws Exception {
+        String authHeader = authenticateAsTestUser();
+        String key = UUID.randomUUID().toString();
+
+        when(blogPostService.addBlogPost(any(CreateBlogPostDTO.class), eq("testuser")))
+                .thenReturn(new BlogPostDTO(4L, "New Title", "New Content", Collections.emptyList()));
+
+        mockMvc.perform(post("/api/blogposts").header("Authorization", authHeader).header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateBlogPostDTO("New Title", "New Content", null))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/blogposts").header("Authorization", authHeader).header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateBlogPostDTO("Other Title", "New Content", null))))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errorMessage").value("Idempotency key " + key + " was already used for a different request"));
+
+        verify(blogPostService, times(1)).addBlogPost(any(CreateBlogPostDTO.class), eq("testuser"));
+    }
+
+    @Test
+    void testAddBlogPost_FailedRequestReleasesIdempotencyKey() throws Exception {
+        String authHeader = authenticateAsTestUser();
+        String key = UUID.randomUUID().toString();
+        String body = objectMapper.writeValueAsString(new CreateBlogPostDTO("New Title", "New Content", null));
+
+        when(blogPostService.addBlogPost(any(CreateBlogPostDTO.class), eq("testuser")))
+                .thenThrow(new BlogPostCreationException("Database unavailable"))
+                .thenReturn(new BlogPostDTO(4L, "New Title", "New Content", Collections.emptyList()));
+
+        mockMvc.perform(post("/api/blogposts").header("Authorization", authHeader).header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isInternalServerError());
+
+        mockMvc.perform(post("/api/blogposts").header("Authorization", authHeader).header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+
+        verify(blogPostService, times(2)).addBlogPost(any(CreateBlogPostDTO.class), eq("testuser"));
+    }
+
+    @Test
+    void testAddBlogPost_ConcurrentDuplicatesWaitForFirst() throws Exception {
+        String authHeader = authenticateAsTestUser();
+        String key = UUID.randomUUID().toString();
+        String body = objectMapper.writeValueAsString(new CreateBlogPostDTO("New Title", "New Content", null));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(blogPostService.addBlogPost(any(CreateBlogPostDTO.class), eq("testuser"))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new BlogPostDTO(4L, "New Title", "New Content", Collections.emptyList());
+        });
+
+        Callable<MockHttpServletResponse> send = () -> mockMvc.perform(post("/api/blogposts")
+                        .header("Authorization", authHeader).header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andReturn().getResponse();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<MockHttpServletResponse> first = executor.submit(send);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            List<Future<MockHttpServletResponse>> duplicates = List.of(executor.submit(send), executor.submit(send));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals(200, first.get().getStatus());
+            for (Future<MockHttpServletResponse> duplicate : duplicates) {
+                assertEquals(200, duplicate.get().getStatus());
+                assertEquals("true", duplicate.get().getHeader("Idempotent-Replayed"));
+                assertEquals(first.get().getContentAsString(), duplicate.get().getContentAsString());
+            }
+        }
+
+        verify(blogPostService, times(1)).addBlogPost(any(CreateBlogPostDTO.class), eq("testuser"));
+    }
+
     @Test
     @WithMockUser(username = "testuser")
     void testUpdateBlogPost() throws Exception {
@@ -301,9 +541,9 @@ class BlogPostControllerTest {
         Mockito.when(authClient.validateToken(token)).thenReturn(true);
         Mockito.when(authClient.getUserDetails(token)).thenReturn(new UserDetailsDto("testuser", List.of("ROLE_USER")));
 
-        Mockito.when(blogPostService.getBlogPostById(1L)).thenReturn(existingBlogPostDTO);
+        Mockito.when(blogPostService.getBlogPostAuthor(1L)).thenReturn(existingBlogPostDTO.getAuthor());
 
-        Mockito.when(authClient.canEditOrDeleteBlogPost(token, "testuser")).thenReturn(true);
+        Mockito.when(authClient.canEditOrDeleteBlogPost(any(UserDetailsDto.class), eq("testuser"))).thenReturn(true);
 
         Mockito.when(blogPostService.updateBlogPost(eq(1L), any(BlogPostDTO.class))).thenReturn(updatedBlogPostDTO);
 
@@ -377,9 +617,9 @@ class BlogPostControllerTest {
         Mockito.when(authClient.validateToken(token)).thenReturn(true);
         Mockito.when(authClient.getUserDetails(token)).thenReturn(new UserDetailsDto("testuser", List.of("ROLE_USER")));
 
-        Mockito.when(blogPostService.getBlogPostById(1L)).thenReturn(existingBlogPostDTO);
+        Mockito.when(blogPostService.getBlogPostAuthor(1L)).thenReturn(existingBlogPostDTO.getAuthor());
 
-        Mockito.when(authClient.canEditOrDeleteBlogPost(token, "testuser")).thenReturn(true);
+        Mockito.when(authClient.canEditOrDeleteBlogPost(any(UserDetailsDto.class), eq("testuser"))).thenReturn(true);
 
         doNothing().when(blogPostService).deleteBlogPost(1L);
 
@@ -401,7 +641,7 @@ class BlogPostControllerTest {
         Mockito.when(authClient.validateToken(token)).thenReturn(true);
         Mockito.when(authClient.getUserDetails(token)).thenReturn(new UserDetailsDto("testuser", List.of("ROLE_USER")));
 
-        Mockito.when(blogPostService.getBlogPostById(1L)).thenThrow(new BlogPostNotFoundException(1L));
+        Mockito.when(blogPostService.getBlogPostAuthor(1L)).thenThrow(new BlogPostNotFoundException(1L));
 
         mockMvc.perform(delete("/api/blogposts/1")
                         .header("Authorization", authHeader)
@@ -422,8 +662,8 @@ class BlogPostControllerTest {
         Mockito.when(authClient.extractToken(authHeader)).thenReturn(token);
         Mockito.when(authClient.validateToken(token)).thenReturn(true);
         Mockito.when(authClient.getUserDetails(token)).thenReturn(new UserDetailsDto("testuser", List.of("ROLE_USER")));
-        Mockito.when(blogPostService.getBlogPostById(1L)).thenReturn(existingBlogPostDTO);
-        Mockito.when(authClient.canEditOrDeleteBlogPost(token, "anotherUser")).thenReturn(false);
+        Mockito.when(blogPostService.getBlogPostAuthor(1L)).thenReturn(existingBlogPostDTO.getAuthor());
+        Mockito.when(authClient.canEditOrDeleteBlogPost(any(UserDetailsDto.class), eq("anotherUser"))).thenReturn(false);
 
         mockMvc.perform(delete("/api/blogposts/1")
                         .header("Authorization", authHeader)
@@ -488,14 +728,18 @@ class BlogPostControllerTest {
         Mockito.when(authClient.getUserDetails(token)).thenReturn(adminDetails);
 
         doNothing().when(authClient).deleteUser(usernameToDelete, token);
+        when(userPurgeService.schedulePurge(usernameToDelete)).thenReturn(new UserPurgeJobDTO(3L, usernameToDelete, "PENDING",
+                0, null, LocalDateTime.now(), LocalDateTime.now(), null, null));
 
         mockMvc.perform(delete("/api/blogposts/admin/users")
                         .header("Authorization", authHeader)
                         .param("username", usernameToDelete)
                         .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("Location", "/api/admin/user-purges/3"));
 
         Mockito.verify(authClient, times(1)).deleteUser(usernameToDelete, token);
+        Mockito.verify(userPurgeService, times(1)).schedulePurge(usernameToDelete);
     }
 
     @Test
@@ -521,5 +765,13 @@ class BlogPostControllerTest {
                 .andExpect(jsonPath("$.errorMessage").value("Access Denied"));
 
         Mockito.verify(authClient, never()).deleteUser(usernameToDelete, token);
+        Mockito.verify(userPurgeService, never()).schedulePurge(usernameToDelete);
+    }
+
+    private String authenticateAsTestUser() {
+        String token = "mocked-jwt-token";
+        when(authClient.validateToken(token)).thenReturn(true);
+        when(authClient.getUserDetails(token)).thenReturn(new UserDetailsDto("testuser", List.of("ROLE_USER")));
+        return "Bearer " + token;
     }
 }
@@ -0,0 +1,254 @@
+package com.scalefocus.blogservice.controller;
+
+import com.scalefocus.blogservice.dto.CreateBlogPostDTO;
+import com.scalefocus.blogservice.model.BlogPost;
+import com.scalefocus.blogservice.model.Tag;
+import com.scalefocus.blogservice.repository.BlogPostRepository;
+import com.scalefocus.blogservice.repository.TagRepository;
+import com.scalefocus.blogservice.service.BlogPostService;
+import com.scalefocus.blogservice.service.implementation.AuthorPostCounts;
+import com.scalefocus.blogservice.service.implementation.ExistenceFilters;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.scalefocus.blogservice.support.QueryCountMatchers.maxQueries;
+import static com.scalefocus.blogservice.support.QueryCountMatchers.queries;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class BlogPostQueryCountTest {
+
+    private static final int POST_COUNT = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BlogPostService blogPostService;
+
+    @Autowired
+    private AuthorPostCounts authorPostCounts;
+
+    @Autowired
+    private ExistenceFilters existenceFilters;
+
+    private Long firstPostId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> seedPosts());
+    }
+
+    private void seedPosts() {
+        Tag java = tagRepository.save(Tag.builder().tagName("java").build());
+        Tag spring = tagRepository.save(Tag.builder().tagName("spring").build());
+        for (int i = 0; i < POST_COUNT; i++) {
+            BlogPost saved = blogPostRepository.save(BlogPost.builder()
+                    .title("Query count post " + i)
+                    .text("Text of query count post " + i)
+                    .author("testuser")
+                    .tags(new ArrayList<>(List.of(java, spring)))
+                    .build());
+            if (firstPostId == null) {
+                firstPostId = saved.getBlogId();
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.getCache(AuthorPostCounts.CACHE_NAME).clear();
+        blogPostRepository.deleteAll();
+        tagRepository.deleteAll();
+    }
+
+    @Test
+    void testGetBlogPosts_QueryBudget() throws Exception {
+        // one select for the page plus one for the tags of the whole page
+        mockMvc.perform(get("/api/blogposts").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].tags.length()").value(2))
+                .andExpect(queries(2));
+    }
+
+    @Test
+    void testGetBlogPostSummaries_QueryBudget() throws Exception {
+        // one select of the stored summaries plus one for the tags of the whole page
+        mockMvc.perform(get("/api/blogposts").param("size", "10").param("summaryLimit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].text").value("Text of query co ..."))
+                .andExpect(jsonPath("$.content[0].tags.length()").value(2))
+                .andExpect(queries(2));
+    }
+
+    @Test
+    void testGetBlogPostFields_QueryBudget() throws Exception {
+        // only the requested columns and no tag query; the page is not full so no count either
+        mockMvc.perform(get("/api/blogposts").param("size", "10").param("fields", "title,author"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].blogId").value(firstPostId))
+                .andExpect(jsonPath("$.content[0].title").value("Query count post 0"))
+                .andExpect(jsonPath("$.content[0].author").value("testuser"))
+                .andExpect(jsonPath("$.content[0].text").doesNotExist())
+                .andExpect(jsonPath("$.content[0].tags").doesNotExist())
+                .andExpect(queries(1));
+
+        mockMvc.perform(get("/api/blogposts").param("size", "10").param("fields", "title,tags"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].tags.length()").value(2))
+                .andExpect(jsonPath("$.content[0].author").doesNotExist())
+                .andExpect(queries(2));
+
+        mockMvc.perform(get("/api/blogposts").param("size", "10").param("fields", "text").param("summaryLimit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].text").value("Text of query co ..."))
+                .andExpect(jsonPath("$.content[0].title").doesNotExist())
+                .andExpect(queries(1));
+    }
+
+    @Test
+    void testGetBlogPostFieldsById_QueryBudget() throws Exception {
+        mockMvc.perform(get("/api/blogposts/" + firstPostId).param("fields", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.blogId").value(firstPostId))
+                .andExpect(jsonPath("$.title").value("Query count post 0"))
+                .andExpect(jsonPath("$.text").doesNotExist())
+                .andExpect(queries(1));
+    }
+
+    @Test
+    void testGetBlogPostsByIds_QueryBudget() throws Exception {
+        // one IN query for the posts and one for their tags
+        mockMvc.perform(get("/api/blogposts").param("ids", (firstPostId + 2) + "," + (firstPostId + 100) + "," + firstPostId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts.length()").value(2))
+                .andExpect(jsonPath("$.posts[0].blogId").value(firstPostId + 2))
+                .andExpect(jsonPath("$.posts[1].blogId").value(firstPostId))
+                .andExpect(jsonPath("$.posts[1].tags.length()").value(2))
+                .andExpect(jsonPath("$.missingIds[0]").value(firstPostId + 100))
+                .andExpect(queries(2));
+    }
+
+    @Test
+    void testGetAuthorPosts_QueryBudget() throws Exception {
+        // summaries, tags and the post count; the count is cached for the next page
+        mockMvc.perform(get("/api/authors/testuser/posts").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.postCount").value(POST_COUNT))
+                .andExpect(jsonPath("$.posts.length()").value(2))
+                .andExpect(jsonPath("$.nextBefore").value(firstPostId + POST_COUNT - 2))
+                .andExpect(queries(3));
+
+        mockMvc.perform(get("/api/authors/testuser/posts").param("size", "2").param("before", String.valueOf(firstPostId + 1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts[0].blogId").value(firstPostId))
+                .andExpect(jsonPath("$.nextBefore").doesNotExist())
+                .andExpect(queries(2));
+
+        // the hit of the second page shows up in the cache meters, which need recordStats in the Caffeine spec
+        assertTrue(meterRegistry.get("cache.gets").tag("cache", AuthorPostCounts.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count() >= 1);
+    }
+
+    @Test
+    void testGetBlogPostById_QueryBudget() throws Exception {
+        // the post and its tags in one fetch-joined select
+        mockMvc.perform(get("/api/blogposts/" + firstPostId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tags.length()").value(2))
+                .andExpect(queries(1));
+    }
+
+    @Test
+    void testUnknownId_AnsweredByExistenceFilter() throws Exception {
+        Long deletedPostId = blogPostRepository.save(BlogPost.builder().title("Deleted post").text("Deleted text")
+                .author("testuser").build()).getBlogId();
+        blogPostRepository.save(BlogPost.builder().title("Kept post").text("Kept text").author("testuser").build());
+        blogPostRepository.deleteById(deletedPostId);
+        // the first build still replays the inserts made since the one before
+        existenceFilters.rebuild();
+        existenceFilters.rebuild();
+
+        // IDs the last build did not see are ruled out before any transaction or query
+        mockMvc.perform(get("/api/blogposts/" + deletedPostId))
+                .andExpect(status().isNotFound())
+                .andExpect(queries(0));
+
+        // IDs above the loaded ones may have been created by another instance
+        mockMvc.perform(get("/api/blogposts/" + (firstPostId + 1_000_000)))
+                .andExpect(status().isNotFound())
+                .andExpect(queries(1));
+
+        // tag names are matched by the database collation, never by the filter
+        mockMvc.perform(get("/api/blogposts").param("tag", "never-created"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(0))
+                .andExpect(jsonPath("$.totalElements").value(0));
+
+        mockMvc.perform(get("/api/blogposts").param("tag", "java"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(POST_COUNT));
+    }
+
+    @Test
+    void testGetAllTags_QueryBudget() throws Exception {
+        mockMvc.perform(get("/api/tags"))
+                .andExpect(status().isOk())
+                .andExpect(maxQueries(1));
+    }
+
+    @Test
+    void testAddBlogPost_EvictsPostCountAfterCommit() {
+        assertEquals(POST_COUNT, authorPostCounts.get("testuser"));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            blogPostService.addBlogPost(new CreateBlogPostDTO("Query count post", "Text of the new post", null), "testuser");
+            assertNotNull(cacheManager.getCache(AuthorPostCounts.CACHE_NAME).get("testuser"),
+                    "the count stays cached until the post is committed");
+        });
+
+        assertNull(cacheManager.getCache(AuthorPostCounts.CACHE_NAME).get("testuser"));
+        assertEquals(POST_COUNT + 1, authorPostCounts.get("testuser"));
+    }
+
+    @Test
+    void testServerTimingHeader() throws Exception {
+        mockMvc.perform(get("/api/blogposts/" + firstPostId))
+                .andExpect(header().string("Server-Timing", startsWith("db;dur=")));
+    }
+}
@@ -0,0 +1,128 @@
+package com.scalefocus.blogservice.controller;
+
+import com.scalefocus.blogservice.config.SecurityConfig;
+import com.scalefocus.blogservice.dto.UserDetailsDto;
+import com.scalefocus.blogservice.service.implementation.AuthClient;
+import com.scalefocus.blogservice.service.implementation.ProfilingServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(SpringExtension.class)
+@WebMvcTest(ProfilingController.class)
+@Import({SecurityConfig.class, ProfilingServiceImpl.class})
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+class ProfilingControllerTest {
+    private static final String TOKEN = "mocked-jwt-token";
+    private static final String AUTH_HEADER = "Bearer " + TOKEN;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProfilingServiceImpl profilingService;
+
+    @MockBean
+    private AuthClient authClient;
+
+    @AfterEach
+    void tearDown() {
+        try {
+            profilingService.stopRecording().toFile().delete();
+        } catch (RuntimeException e) {
+            // no recording left running
+        }
+    }
+
+    @Test
+    void testStartAndStopRecording() throws Exception {
+        authenticateAs("admin", "ROLE_ADMIN");
+
+        mockMvc.perform(post("/api/admin/profiling/recordings")
+                        .header("Authorization", AUTH_HEADER)
+                        .param("maxDurationSeconds", "60")
+                        .param("maxSizeMegabytes", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andExpect(jsonPath("$.maxDurationSeconds").value(60))
+                .andExpect(jsonPath("$.maxSizeMegabytes").value(10));
+
+        mockMvc.perform(get("/api/admin/profiling/recordings").header("Authorization", AUTH_HEADER))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"));
+
+        MvcResult result = mockMvc.perform(post("/api/admin/profiling/recordings/stop").header("Authorization", AUTH_HEADER))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult download = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(header().string("Content-Disposition", org.hamcrest.Matchers.endsWith(".jfr\"")))
+                .andReturn();
+        assertTrue(download.getResponse().getContentAsByteArray().length > 0);
+    }
+
+    @Test
+    void testStartRecording_AlreadyActive() throws Exception {
+        authenticateAs("admin", "ROLE_ADMIN");
+
+        mockMvc.perform(post("/api/admin/profiling/recordings").header("Authorization", AUTH_HEADER))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/admin/profiling/recordings").header("Authorization", AUTH_HEADER))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorMessage").value("A profiling recording is already active"));
+    }
+
+    @Test
+    void testStopRecording_NoneActive() throws Exception {
+        authenticateAs("admin", "ROLE_ADMIN");
+
+        mockMvc.perform(post("/api/admin/profiling/recordings/stop").header("Authorization", AUTH_HEADER))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorMessage").value("No profiling recording is active"));
+    }
+
+    @Test
+    void testStartRecording_DurationTooLong() throws Exception {
+        authenticateAs("admin", "ROLE_ADMIN");
+
+        mockMvc.perform(post("/api/admin/profiling/recordings")
+                        .header("Authorization", AUTH_HEADER)
+                        .param("maxDurationSeconds", "7200"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testStartRecording_NotAdmin() throws Exception {
+        authenticateAs("testuser", "ROLE_USER");
+
+        mockMvc.perform(post("/api/admin/profiling/recordings").header("Authorization", AUTH_HEADER))
+                .andExpect(status().isForbidden());
+    }
+
+    private void authenticateAs(String username, String role) {
+        Mockito.when(authClient.validateToken(TOKEN)).thenReturn(true);
+        Mockito.when(authClient.getUserDetails(TOKEN)).thenReturn(new UserDetailsDto(username, List.of(role)));
+    }
+}
@@ -0,0 +1,109 @@
+package com.scalefocus.blogservice.controller;
+
+import com.scalefocus.blogservice.dto.UserDetailsDto;
+import com.scalefocus.blogservice.service.implementation.AuthClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "blog.rate-limit.enabled=true",
+        "blog.rate-limit.address.capacity=6",
+        "blog.rate-limit.address.refill-per-second=0.01",
+        "blog.rate-limit.read.capacity=3",
+        "blog.rate-limit.read.refill-per-second=0.01",
+        "blog.rate-limit.write.capacity=1",
+        "blog.rate-limit.write.refill-per-second=0.5"})
+@AutoConfigureMockMvc
+class RateLimitFilterTest {
+    private static final String TOKEN = "mocked-jwt-token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private AuthClient authClient;
+
+    @Test
+    void testAnonymousReads_LimitedPerAddress() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/tags").with(from("10.0.0.1")))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/api/tags").with(from("10.0.0.1")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "100"))
+                .andExpect(jsonPath("$.errorMessage").value("Too many requests, retry after 100 seconds"));
+
+        mockMvc.perform(get("/api/tags").with(from("10.0.0.2")))
+                .andExpect(status().isOk());
+
+        Assertions.assertTrue(meterRegistry.get("blog.rate.limit.requests")
+                .tag("budget", "read").tag("outcome", "rejected").counter().count() >= 1);
+    }
+
+    @Test
+    void testAuthenticatedWrites_LimitedPerUserAcrossAddresses() throws Exception {
+        Mockito.when(authClient.validateToken(TOKEN)).thenReturn(true);
+        Mockito.when(authClient.getUserDetails(TOKEN)).thenReturn(new UserDetailsDto("writer", List.of("ROLE_USER")));
+
+        mockMvc.perform(post("/api/tags/create-tag").param("tagName", "rate-limited")
+                        .header("Authorization", "Bearer " + TOKEN).with(from("10.0.1.1")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/tags/create-tag").param("tagName", "rate-limited-2")
+                        .header("Authorization", "Bearer " + TOKEN).with(from("10.0.1.2")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"));
+
+        // reads of the same user draw from their own budget
+        mockMvc.perform(get("/api/tags").with(from("10.0.1.3")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testInvalidTokens_LimitedPerAddressBeforeAuthentication() throws Exception {
+        Mockito.when(authClient.validateToken(TOKEN)).thenReturn(false);
+
+        for (int i = 0; i < 6; i++) {
+            mockMvc.perform(post("/api/tags/create-tag").param("tagName", "never-created")
+                            .header("Authorization", "Bearer " + TOKEN).with(from("10.0.2.1")))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(post("/api/tags/create-tag").param("tagName", "never-created")
+                        .header("Authorization", "Bearer " + TOKEN).with(from("10.0.2.1")))
+                .andExpect(status().isTooManyRequests());
+
+        // the rejected call was never sent to the auth service
+        Mockito.verify(authClient, Mockito.times(6)).validateToken(TOKEN);
+        Assertions.assertTrue(meterRegistry.get("blog.rate.limit.requests")
+                .tag("budget", "address").tag("outcome", "rejected").counter().count() >= 1);
+    }
+
+    private static RequestPostProcessor from(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
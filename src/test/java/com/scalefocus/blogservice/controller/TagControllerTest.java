@@ -2,7 +2,11 @@ package com.scalefocus.blogservice.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.scalefocus.blogservice.config.SecurityConfig;
+import com.scalefocus.blogservice.dto.BulkTaggingDTO;
+import com.scalefocus.blogservice.dto.BulkTaggingRequestDTO;
 import com.scalefocus.blogservice.dto.ResponseTagDTO;
+import com.scalefocus.blogservice.dto.TaggingOutcome;
+import com.scalefocus.blogservice.dto.TagMergeDTO;
 import com.scalefocus.blogservice.dto.UserDetailsDto;
 import com.scalefocus.blogservice.exceptions.TagNotFoundException;
 import com.scalefocus.blogservice.service.implementation.AuthClient;
@@ -12,6 +16,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
@@ -36,6 +42,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @ExtendWith(SpringExtension.class)
 @WebMvcTest(TagController.class)
 @Import(SecurityConfig.class)
+@ImportAutoConfiguration(AopAutoConfiguration.class)
 class TagControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -221,4 +228,80 @@ class TagControllerTest {
                 .andExpect(jsonPath("$.errorMessage").value("Tag with name Tag1 not found"));
     }
 
+    @Test
+    void testMergeTags_Successful() throws Exception {
+        authenticateAs("admin", "ROLE_ADMIN");
+        Mockito.when(tagService.mergeTags("Java", "java")).thenReturn(new TagMergeDTO(responseTagDTO1, 10, 3));
+
+        mockMvc.perform(post("/api/tags/merge")
+                        .header("Authorization", "Bearer mocked-jwt-token")
+                        .param("from", "Java")
+                        .param("to", "java"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tag.tagName").value(responseTagDTO1.tagName()))
+                .andExpect(jsonPath("$.postsMoved").value(10))
+                .andExpect(jsonPath("$.postsAlreadyTagged").value(3));
+    }
+
+    @Test
+    void testMergeTags_NotAdmin() throws Exception {
+        authenticateAs("testuser", "ROLE_USER");
+
+        mockMvc.perform(post("/api/tags/merge")
+                        .header("Authorization", "Bearer mocked-jwt-token")
+                        .param("from", "Java")
+                        .param("to", "java"))
+                .andExpect(status().isForbidden());
+        Mockito.verify(tagService, Mockito.never()).mergeTags(anyString(), anyString());
+    }
+
+    @Test
+    void testMergeTags_TagNotFound() throws Exception {
+        authenticateAs("admin", "ROLE_ADMIN");
+        Mockito.when(tagService.mergeTags("Java", "java")).thenThrow(new TagNotFoundException("java"));
+
+        mockMvc.perform(post("/api/tags/merge")
+                        .header("Authorization", "Bearer mocked-jwt-token")
+                        .param("from", "Java")
+                        .param("to", "java"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorMessage").value("Tag with name java not found"));
+    }
+
+    @Test
+    void testTagBlogPosts_Successful() throws Exception {
+        authenticateAs("editor", "ROLE_USER");
+        BulkTaggingRequestDTO request = new BulkTaggingRequestDTO(List.of(1L, 2L), null, null);
+        Mockito.when(tagService.tagBlogPosts("java", request)).thenReturn(new BulkTaggingDTO("java", 1, List.of(
+                new BulkTaggingDTO.PostOutcome(1L, TaggingOutcome.ADDED),
+                new BulkTaggingDTO.PostOutcome(2L, TaggingOutcome.NOT_FOUND))));
+
+        mockMvc.perform(post("/api/tags/java/posts")
+                        .header("Authorization", "Bearer mocked-jwt-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").value(1))
+                .andExpect(jsonPath("$.outcomes[0].outcome").value("ADDED"))
+                .andExpect(jsonPath("$.outcomes[1].blogId").value(2))
+                .andExpect(jsonPath("$.outcomes[1].outcome").value("NOT_FOUND"));
+    }
+
+    @Test
+    void testUntagBlogPosts_TagNotFound() throws Exception {
+        authenticateAs("editor", "ROLE_USER");
+        BulkTaggingRequestDTO request = new BulkTaggingRequestDTO(null, "spring", null);
+        Mockito.when(tagService.untagBlogPosts("java", request)).thenThrow(new TagNotFoundException("java"));
+
+        mockMvc.perform(delete("/api/tags/java/posts")
+                        .header("Authorization", "Bearer mocked-jwt-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound());
+    }
+
+    private void authenticateAs(String username, String role) {
+        Mockito.when(authClient.validateToken("mocked-jwt-token")).thenReturn(true);
+        Mockito.when(authClient.getUserDetails("mocked-jwt-token")).thenReturn(new UserDetailsDto(username, List.of(role)));
+    }
 }
@@ -0,0 +1,112 @@
+package com.scalefocus.blogservice.controller;
+
+import com.scalefocus.blogservice.config.SecurityConfig;
+import com.scalefocus.blogservice.dto.UserDetailsDto;
+import com.scalefocus.blogservice.dto.UserPurgeJobDTO;
+import com.scalefocus.blogservice.exceptions.UserPurgeJobNotFoundException;
+import com.scalefocus.blogservice.service.implementation.AuthClient;
+import com.scalefocus.blogservice.service.implementation.UserPurgeServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(SpringExtension.class)
+@WebMvcTest(UserPurgeController.class)
+@Import(SecurityConfig.class)
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+class UserPurgeControllerTest {
+    private static final String TOKEN = "mocked-jwt-token";
+    private static final String AUTH_HEADER = "Bearer " + TOKEN;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UserPurgeServiceImpl userPurgeService;
+
+    @MockBean
+    private AuthClient authClient;
+
+    @Test
+    void testGetJob() throws Exception {
+        authenticateAs("admin", "ROLE_ADMIN");
+        Mockito.when(userPurgeService.getJob(3L)).thenReturn(job("RUNNING", 500, 1200));
+
+        mockMvc.perform(get("/api/admin/user-purges/3").header("Authorization", AUTH_HEADER))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.postsDeleted").value(500))
+                .andExpect(jsonPath("$.postsRemaining").value(1200));
+    }
+
+    @Test
+    void testGetJob_NotFound() throws Exception {
+        authenticateAs("admin", "ROLE_ADMIN");
+        Mockito.when(userPurgeService.getJob(3L)).thenThrow(new UserPurgeJobNotFoundException(3L));
+
+        mockMvc.perform(get("/api/admin/user-purges/3").header("Authorization", AUTH_HEADER))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorMessage").value("User purge job with id 3 not found"));
+    }
+
+    @Test
+    void testGetJobs() throws Exception {
+        authenticateAs("admin", "ROLE_ADMIN");
+        Mockito.when(userPurgeService.getJobs(3L, 10)).thenReturn(List.of(job("COMPLETED", 1700, 0)));
+
+        mockMvc.perform(get("/api/admin/user-purges").header("Authorization", AUTH_HEADER).param("before", "3").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("COMPLETED"));
+    }
+
+    @Test
+    void testGetJobs_SizeTooLarge() throws Exception {
+        authenticateAs("admin", "ROLE_ADMIN");
+
+        mockMvc.perform(get("/api/admin/user-purges").header("Authorization", AUTH_HEADER).param("size", "101"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testSchedulePurge() throws Exception {
+        authenticateAs("admin", "ROLE_ADMIN");
+        Mockito.when(userPurgeService.schedulePurge("user1")).thenReturn(job("PENDING", 0, 1700));
+
+        mockMvc.perform(post("/api/admin/user-purges").header("Authorization", AUTH_HEADER).param("username", "user1"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/admin/user-purges/3"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    void testGetJob_NotAdmin() throws Exception {
+        authenticateAs("testuser", "ROLE_USER");
+
+        mockMvc.perform(get("/api/admin/user-purges/3").header("Authorization", AUTH_HEADER))
+                .andExpect(status().isForbidden());
+    }
+
+    private static UserPurgeJobDTO job(String status, long deleted, long remaining) {
+        return new UserPurgeJobDTO(3L, "user1", status, deleted, remaining, LocalDateTime.now(), LocalDateTime.now(), null, null);
+    }
+
+    private void authenticateAs(String username, String role) {
+        Mockito.when(authClient.validateToken(TOKEN)).thenReturn(true);
+        Mockito.when(authClient.getUserDetails(TOKEN)).thenReturn(new UserDetailsDto(username, List.of(role)));
+    }
+}
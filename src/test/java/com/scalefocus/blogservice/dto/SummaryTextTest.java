@@ -0,0 +1,97 @@
+package com.scalefocus.blogservice.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+
+class SummaryTextTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void testOf_TruncatesLikeTheOriginalSubstring() {
+        SummaryText summary = SummaryText.of("Test content that is long", 10);
+
+        Assertions.assertEquals("Test c ...", summary.toString());
+        Assertions.assertEquals(10, summary.length());
+        Assertions.assertEquals('c', summary.charAt(5));
+        Assertions.assertEquals('.', summary.charAt(9));
+    }
+
+    @Test
+    void testOf_ShortTextIsKeptAsIs() {
+        SummaryText summary = SummaryText.of("Short", 10);
+
+        Assertions.assertEquals("Short", summary.toString());
+        Assertions.assertEquals(5, summary.length());
+    }
+
+    @Test
+    void testOf_DoesNotSplitSurrogatePairs() {
+        // the cut at index 6 would fall between the two halves of the emoji
+        String text = "Hello😀 world and more";
+
+        SummaryText summary = SummaryText.of(text, 10);
+
+        Assertions.assertEquals("Hello ...", summary.toString());
+        Assertions.assertFalse(Character.isHighSurrogate(summary.charAt(summary.length() - 5)));
+    }
+
+    @Test
+    void testGetChars_CopiesAcrossPrefixAndEllipsis() {
+        SummaryText summary = SummaryText.of("Test content that is long", 10);
+        char[] destination = new char[6];
+
+        summary.getChars(3, 9, destination, 0);
+
+        Assertions.assertEquals("t c ..", new String(destination));
+    }
+
+    @Test
+    void testEquals_ComparesCharacters() {
+        SummaryText fromText = SummaryText.of("Test content that is long", 10);
+        SummaryText fromStoredPrefix = SummaryText.of("Test content", 25, 10);
+
+        Assertions.assertEquals(fromText, fromStoredPrefix);
+        Assertions.assertEquals(fromText.hashCode(), fromStoredPrefix.hashCode());
+        Assertions.assertEquals("Test c ...".hashCode(), fromText.hashCode());
+        Assertions.assertNotEquals(fromText, SummaryText.of("Test content that is long", 12));
+        Assertions.assertEquals(new BlogPostDTO(1L, "Title", fromText, "author", List.of()),
+                new BlogPostDTO(1L, "Title", fromStoredPrefix, "author", List.of()));
+    }
+
+    @Test
+    void testSerialize_WritesSummaryWithoutSplittingSurrogates() throws Exception {
+        BlogPostDTO blogPostDTO = new BlogPostDTO(1L, "Title", SummaryText.of("Hello😀 world and more", 11), "author", List.of());
+
+        byte[] json = objectMapper.writeValueAsBytes(blogPostDTO);
+
+        JsonNode node = objectMapper.readTree(json);
+        Assertions.assertEquals("Hello😀 ...", node.get("text").asText());
+        Assertions.assertEquals("Hello😀 ...", blogPostDTO.getText());
+        BlogPostDTO materialized = new BlogPostDTO(1L, "Title", "Hello😀 ...", "author", List.of());
+        Assertions.assertArrayEquals(objectMapper.writeValueAsBytes(materialized), json);
+    }
+
+    @Test
+    void testSerialize_LongSummaryIsWrittenCompletely() throws Exception {
+        String text = "x".repeat(20_000);
+        BlogPostDTO blogPostDTO = new BlogPostDTO(1L, "Title", SummaryText.of(text, 10_000), "author", List.of());
+
+        JsonNode node = objectMapper.readTree(objectMapper.writeValueAsString(blogPostDTO));
+
+        Assertions.assertEquals("x".repeat(9_996) + " ...", node.get("text").asText());
+    }
+
+    @Test
+    void testDeserialize_TextIsStillAnInputProperty() throws Exception {
+        BlogPostDTO blogPostDTO = objectMapper.readValue("{\"title\":\"Title\",\"text\":\"Full text\"}", BlogPostDTO.class);
+
+        Assertions.assertEquals("Full text", blogPostDTO.getText());
+        Assertions.assertEquals("Full text", objectMapper.readTree(objectMapper.writeValueAsString(blogPostDTO)).get("text").asText());
+    }
+}
@@ -0,0 +1,93 @@
+package com.scalefocus.blogservice.model;
+
+import com.scalefocus.blogservice.config.TextCompressionProperties;
+import com.scalefocus.blogservice.model.converters.CompressedTextConverter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+class CompressedTextConverterTest {
+
+    private static final String LONG_TEXT = "Blog post paragraph with some repeated words. ".repeat(200);
+
+    private TextCompressionProperties properties;
+    private CompressedTextConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TextCompressionProperties();
+        properties.setEnabled(true);
+        properties.setMinSize(DataSize.ofBytes(1024));
+        converter = new CompressedTextConverter(properties);
+    }
+
+    @Test
+    void testLargeTextIsCompressed() {
+        byte[] column = converter.convertToDatabaseColumn(LONG_TEXT);
+
+        Assertions.assertEquals(0x01, column[0]);
+        Assertions.assertTrue(column.length < LONG_TEXT.length() / 10);
+        Assertions.assertEquals(LONG_TEXT, converter.convertToEntityAttribute(column));
+    }
+
+    @Test
+    void testSmallTextIsStoredPlain() {
+        byte[] column = converter.convertToDatabaseColumn("Short text");
+
+        Assertions.assertEquals(0x00, column[0]);
+        Assertions.assertEquals("Short text", new String(column, 1, column.length - 1, StandardCharsets.UTF_8));
+        Assertions.assertEquals("Short text", converter.convertToEntityAttribute(column));
+    }
+
+    @Test
+    void testCompressionDisabled() {
+        properties.setEnabled(false);
+
+        byte[] column = converter.convertToDatabaseColumn(LONG_TEXT);
+
+        Assertions.assertEquals(0x00, column[0]);
+        Assertions.assertEquals(LONG_TEXT, converter.convertToEntityAttribute(column));
+    }
+
+    @Test
+    void testTextThatDoesNotShrinkIsStoredPlain() {
+        properties.setMinSize(DataSize.ofBytes(0));
+
+        byte[] column = converter.convertToDatabaseColumn("Short text");
+
+        Assertions.assertEquals(0x00, column[0]);
+        Assertions.assertEquals("Short text", converter.convertToEntityAttribute(column));
+    }
+
+    @Test
+    void testMultiByteTextRoundTrip() {
+        String text = "Zdravo 😀 ñ ".repeat(500);
+
+        byte[] column = converter.convertToDatabaseColumn(text);
+
+        Assertions.assertEquals(0x01, column[0]);
+        Assertions.assertEquals(text, converter.convertToEntityAttribute(column));
+    }
+
+    @Test
+    void testLegacyRowsWithoutHeader() {
+        Assertions.assertEquals("Legacy text", converter.convertToEntityAttribute("Legacy text".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertEquals("", converter.convertToEntityAttribute(new byte[0]));
+    }
+
+    @Test
+    void testNull() {
+        Assertions.assertNull(converter.convertToDatabaseColumn(null));
+        Assertions.assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    void testCorruptCompressedText() {
+        byte[] column = converter.convertToDatabaseColumn(LONG_TEXT);
+        column[column.length / 2] ^= 0x55;
+
+        Assertions.assertThrows(IllegalStateException.class, () -> converter.convertToEntityAttribute(column));
+    }
+}
@@ -0,0 +1,190 @@
+package com.scalefocus.blogservice.perf;
+
+import com.scalefocus.blogservice.BlogserviceApplication;
+import com.scalefocus.blogservice.model.BlogPost;
+import com.scalefocus.blogservice.model.Tag;
+import com.scalefocus.blogservice.repository.BlogPostRepository;
+import com.scalefocus.blogservice.repository.TagRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives a read/write mix against the blog post and tag endpoints of an app booted on the embedded H2 database, with
+ * auth served by {@link StubAuthServer}. Nothing leaves the JVM. Run with {@code mvn -Pperf test -Dtest=BlogServiceLoadTest};
+ * set {@code load.minThroughput} and/or {@code load.maxP99Ms} to turn the run into a regression gate.
+ */
+@org.junit.jupiter.api.Tag("perf")
+class BlogServiceLoadTest {
+
+    private static final int REQUESTS = Integer.getInteger("load.requests", 5000);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 64);
+    private static final int WRITE_PERCENT = Integer.getInteger("load.writePercent", 20);
+    private static final int SEED_POSTS = Integer.getInteger("load.seedPosts", 200);
+    private static final int SEED_TAGS = Integer.getInteger("load.seedTags", 10);
+    private static final Duration AUTH_DELAY = Duration.ofMillis(Long.getLong("load.authDelayMs", 5));
+    private static final double MIN_THROUGHPUT = Double.parseDouble(System.getProperty("load.minThroughput", "0"));
+    private static final long MAX_P99_MILLIS = Long.getLong("load.maxP99Ms", 0);
+
+    private static final String AUTHORIZATION = "Bearer load-test-token";
+
+    private static StubAuthServer authServer;
+
+    @BeforeAll
+    static void startAuthServer() throws Exception {
+        authServer = StubAuthServer.start(AUTH_DELAY);
+    }
+
+    @AfterAll
+    static void stopAuthServer() {
+        authServer.close();
+    }
+
+    @Test
+    void mixedReadWriteWorkload() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BlogserviceApplication.class)
+                .run("--server.port=0",
+                        "--blog.authservice.base-url=" + authServer.baseUrl(),
+                        "--logging.level.com.scalefocus.blogservice=WARN")) {
+            List<Long> postIds = seed(context);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Workload workload = new Workload("http://localhost:" + port, postIds);
+
+            LoadDriver driver = new LoadDriver();
+            driver.run(Math.min(REQUESTS, 500), CONCURRENCY, workload::warmUpRequest);
+            LoadDriver.Result result = driver.run(REQUESTS, CONCURRENCY, workload::request);
+
+            System.out.printf("Load test: %d requests, concurrency %d, %d%% writes, auth delay %dms, %d seeded posts%n",
+                    REQUESTS, CONCURRENCY, WRITE_PERCENT, AUTH_DELAY.toMillis(), SEED_POSTS);
+            for (Operation operation : Operation.values()) {
+                LoadDriver.Result selected = result.select(i -> workload.operation(i) == operation);
+                if (selected.requests() > 0) {
+                    System.out.printf("  %-12s %s%n", operation, selected.describe());
+                }
+            }
+            System.out.printf("  %-12s %s%n", "TOTAL", result.describe());
+
+            assertEquals(0, result.errors(), "requests failed during the load test");
+            if (MIN_THROUGHPUT > 0) {
+                assertTrue(result.throughput() >= MIN_THROUGHPUT,
+                        String.format("throughput %.0f req/s is below the %.0f req/s gate", result.throughput(), MIN_THROUGHPUT));
+            }
+            if (MAX_P99_MILLIS > 0) {
+                assertTrue(result.percentile(99).toMillis() <= MAX_P99_MILLIS,
+                        "p99 of " + result.percentile(99).toMillis() + "ms is above the " + MAX_P99_MILLIS + "ms gate");
+            }
+        }
+    }
+
+    private static List<Long> seed(ConfigurableApplicationContext context) {
+        BlogPostRepository blogPostRepository = context.getBean(BlogPostRepository.class);
+        TagRepository tagRepository = context.getBean(TagRepository.class);
+        List<Long> postIds = new ArrayList<>(SEED_POSTS);
+        context.getBean(TransactionTemplate.class).executeWithoutResult(status -> {
+            List<Tag> tags = new ArrayList<>(SEED_TAGS);
+            for (int i = 0; i < SEED_TAGS; i++) {
+                tags.add(tagRepository.save(Tag.builder().tagName("tag-" + i).build()));
+            }
+            for (int i = 0; i < SEED_POSTS; i++) {
+                BlogPost post = blogPostRepository.save(BlogPost.builder()
+                        .title("Seeded post " + i)
+                        .text("Seeded post text " + i + " ".repeat(i % 7) + "lorem ipsum dolor sit amet ".repeat(5))
+                        .author("loadtest")
+                        .tags(new ArrayList<>(List.of(tags.get(i % SEED_TAGS), tags.get((i + 1) % SEED_TAGS))))
+                        .build());
+                postIds.add(post.getBlogId());
+            }
+        });
+        return postIds;
+    }
+
+    enum Operation {
+        LIST_POSTS(false, w -> w.get("/api/blogposts?page=" + w.index % 10 + "&size=10")),
+        GET_POST(false, w -> w.get("/api/blogposts/" + w.postId())),
+        LIST_BY_TAG(false, w -> w.get("/api/blogposts?tag=tag-" + w.index % SEED_TAGS + "&summaryLimit=30&size=10")),
+        LIST_TAGS(false, w -> w.get("/api/tags")),
+        CREATE_POST(true, w -> w.send("POST", "/api/blogposts",
+                "{\"title\":\"Load test post " + w.index + "\",\"text\":\"Created during the load test\"}")),
+        UPDATE_POST(true, w -> w.send("PATCH", "/api/blogposts/" + w.postId(),
+                "{\"title\":\"Updated post " + w.index + "\",\"text\":\"Updated during the load test " + w.index + "\"}")),
+        ADD_TAG(true, w -> w.send("POST", "/api/blogposts/" + w.postId() + "/tags?tag=load-tag-" + w.index, null)),
+        CREATE_TAG(true, w -> w.send("POST", "/api/tags/create-tag?tagName=load-created-" + w.index, null));
+
+        private final boolean write;
+        private final Function<RequestContext, HttpRequest> request;
+
+        Operation(boolean write, Function<RequestContext, HttpRequest> request) {
+            this.write = write;
+            this.request = request;
+        }
+    }
+
+    private static final class Workload {
+        private final String baseUrl;
+        private final List<Long> postIds;
+        private final Operation[] operations;
+
+        private Workload(String baseUrl, List<Long> postIds) {
+            this.baseUrl = baseUrl;
+            this.postIds = postIds;
+            List<Operation> reads = List.of(Operation.values()).stream().filter(operation -> !operation.write).toList();
+            List<Operation> writes = List.of(Operation.values()).stream().filter(operation -> operation.write).toList();
+            Random random = new Random(42);
+            operations = new Operation[REQUESTS];
+            for (int i = 0; i < REQUESTS; i++) {
+                List<Operation> pool = random.nextInt(100) < WRITE_PERCENT ? writes : reads;
+                operations[i] = pool.get(random.nextInt(pool.size()));
+            }
+        }
+
+        Operation operation(int index) {
+            return operations[index];
+        }
+
+        HttpRequest request(int index) {
+            return operations[index].request.apply(new RequestContext(baseUrl, postIds, index));
+        }
+
+        HttpRequest warmUpRequest(int index) {
+            Operation[] reads = {Operation.LIST_POSTS, Operation.GET_POST, Operation.LIST_BY_TAG, Operation.LIST_TAGS};
+            return reads[index % reads.length].request.apply(new RequestContext(baseUrl, postIds, index));
+        }
+    }
+
+    private record RequestContext(String baseUrl, List<Long> postIds, int index) {
+
+        long postId() {
+            return postIds.get(index % postIds.size());
+        }
+
+        HttpRequest get(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+        }
+
+        HttpRequest send(String method, String path, String json) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", AUTHORIZATION);
+            if (json == null) {
+                return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+            }
+            return builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(json))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.scalefocus.blogservice.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scalefocus.blogservice.BlogserviceApplication;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures how long a PATCH /api/blogposts/{id} keeps a pooled connection with open-session-in-view on and off.
+ * The permission check waits for the stub auth service after its author lookup, and OSIV keeps the connection
+ * through that wait and the response rendering. Run with {@code mvn -Pperf test}.
+ */
+@Tag("perf")
+class ConnectionHoldLoadTest {
+
+    private static final Duration AUTH_DELAY = Duration.ofMillis(Long.getLong("perf.authDelayMs", 100));
+    private static final int CONCURRENCY = Integer.getInteger("perf.concurrency", 20);
+    private static final int REQUESTS = Integer.getInteger("perf.requests", 200);
+    private static final int POOL_SIZE = 5;
+
+    private static StubAuthServer authServer;
+
+    @BeforeAll
+    static void startAuthServer() throws Exception {
+        authServer = StubAuthServer.start(AUTH_DELAY);
+    }
+
+    @AfterAll
+    static void stopAuthServer() {
+        authServer.close();
+    }
+
+    @Test
+    void connectionsAreNotHeldThroughAuthCalls() throws Exception {
+        PoolUsage openInView = measureUpdates(true);
+        PoolUsage transactionScoped = measureUpdates(false);
+
+        System.out.printf("Auth delay %dms, %d concurrent requests, pool of %d%n", AUTH_DELAY.toMillis(), CONCURRENCY, POOL_SIZE);
+        System.out.println("Open session in view: " + openInView.describe());
+        System.out.println("Transaction scoped:   " + transactionScoped.describe());
+
+        assertEquals(0, openInView.result().errors());
+        assertEquals(0, transactionScoped.result().errors());
+        assertTrue(transactionScoped.heldPerRequest() < openInView.heldPerRequest(),
+                "expected transaction scoped sessions to hold connections for less time per request");
+    }
+
+    private PoolUsage measureUpdates(boolean openInView) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BlogserviceApplication.class)
+                .run("--server.port=0",
+                        "--spring.jpa.open-in-view=" + openInView,
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--blog.authservice.base-url=" + authServer.baseUrl(),
+                        "--logging.level.com.scalefocus.blogservice=WARN")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            long postId = createPost(port);
+            URI uri = URI.create("http://localhost:" + port + "/api/blogposts/" + postId);
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+
+            LoadDriver driver = new LoadDriver();
+            driver.run(20, CONCURRENCY, i -> update(uri, i));
+
+            Timer usage = registry.get("hikaricp.connections.usage").timer();
+            Gauge active = registry.get("hikaricp.connections.active").gauge();
+            Gauge pending = registry.get("hikaricp.connections.pending").gauge();
+            long usageCount = usage.count();
+            double usageMillis = usage.totalTime(TimeUnit.MILLISECONDS);
+
+            AtomicBoolean running = new AtomicBoolean(true);
+            double[] peaks = new double[2];
+            Thread sampler = Thread.ofVirtual().start(() -> {
+                while (running.get()) {
+                    peaks[0] = Math.max(peaks[0], active.value());
+                    peaks[1] = Math.max(peaks[1], pending.value());
+                    try {
+                        Thread.sleep(2);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+            LoadDriver.Result result = driver.run(REQUESTS, CONCURRENCY, i -> update(uri, i));
+            running.set(false);
+            sampler.join();
+
+            double heldPerRequest = (usage.totalTime(TimeUnit.MILLISECONDS) - usageMillis) / REQUESTS;
+            long checkoutsPerRequest = Math.round((double) (usage.count() - usageCount) / REQUESTS);
+            return new PoolUsage(result, heldPerRequest, checkoutsPerRequest, (int) peaks[0], (int) peaks[1]);
+        }
+    }
+
+    private static long createPost(int port) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/blogposts"))
+                .header("Authorization", "Bearer load-test-token")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"Connection hold post\",\"text\":\"Connection hold post text\"}"))
+                .build();
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), response.body());
+        return new ObjectMapper().readTree(response.body()).get("blogId").asLong();
+    }
+
+    private static HttpRequest update(URI uri, int index) {
+        String body = "{\"title\":\"Connection hold post " + index + "\",\"text\":\"Connection hold post text " + index + "\"}";
+        return HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer load-test-token")
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private record PoolUsage(LoadDriver.Result result, double heldPerRequest, long checkoutsPerRequest, int peakActive, int peakPending) {
+
+        String describe() {
+            return String.format("connection held %.1fms per request in %d checkouts, peak %d active / %d waiting, %s",
+                    heldPerRequest, checkoutsPerRequest, peakActive, peakPending, result.describe());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.scalefocus.blogservice.perf;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Fires a fixed number of requests with at most {@code concurrency} in flight and records per-request latency.
+ */
+public final class LoadDriver {
+    private final HttpClient httpClient;
+
+    public LoadDriver() {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    public Result run(int totalRequests, int concurrency, IntFunction<HttpRequest> requests) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        long[] latencies = new long[totalRequests];
+        boolean[] failed = new boolean[totalRequests];
+
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < totalRequests; i++) {
+                inFlight.acquire();
+                int index = i;
+                executor.submit(() -> {
+                    long requestStarted = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = httpClient.send(requests.apply(index), HttpResponse.BodyHandlers.discarding());
+                        failed[index] = response.statusCode() >= 400;
+                    } catch (Exception e) {
+                        failed[index] = true;
+                    } finally {
+                        latencies[index] = System.nanoTime() - requestStarted;
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return new Result(Duration.ofNanos(System.nanoTime() - started), latencies, failed);
+    }
+
+    public static final class Result {
+        private final Duration elapsed;
+        private final long[] latencies;
+        private final boolean[] failed;
+        private final long[] sortedLatencies;
+
+        private Result(Duration elapsed, long[] latencies, boolean[] failed) {
+            this.elapsed = elapsed;
+            this.latencies = latencies;
+            this.failed = failed;
+            this.sortedLatencies = latencies.clone();
+            Arrays.sort(sortedLatencies);
+        }
+
+        /**
+         * The requests whose index matches, measured over the elapsed time of the whole run.
+         */
+        public Result select(IntPredicate index) {
+            int[] selected = IntStream.range(0, latencies.length).filter(index).toArray();
+            long[] selectedLatencies = new long[selected.length];
+            boolean[] selectedFailed = new boolean[selected.length];
+            for (int i = 0; i < selected.length; i++) {
+                selectedLatencies[i] = latencies[selected[i]];
+                selectedFailed[i] = failed[selected[i]];
+            }
+            return new Result(elapsed, selectedLatencies, selectedFailed);
+        }
+
+        public int requests() {
+            return latencies.length;
+        }
+
+        public int errors() {
+            int errors = 0;
+            for (boolean requestFailed : failed) {
+                if (requestFailed) {
+                    errors++;
+                }
+            }
+            return errors;
+        }
+
+        public Duration elapsed() {
+            return elapsed;
+        }
+
+        public double throughput() {
+            return requests() / (elapsed.toNanos() / 1_000_000_000d);
+        }
+
+        public Duration percentile(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return Duration.ZERO;
+            }
+            int index = (int) Math.ceil(percentile / 100d * sortedLatencies.length) - 1;
+            return Duration.ofNanos(sortedLatencies[Math.max(0, Math.min(index, sortedLatencies.length - 1))]);
+        }
+
+        public String describe() {
+            return String.format("%d requests, %d errors, %.0f req/s, p50=%dms p90=%dms p99=%dms max=%dms",
+                    requests(), errors(), throughput(), percentile(50).toMillis(), percentile(90).toMillis(),
+                    percentile(99).toMillis(), percentile(100).toMillis());
+        }
+    }
+}
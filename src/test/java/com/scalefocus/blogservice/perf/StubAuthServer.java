@@ -0,0 +1,93 @@
+package com.scalefocus.blogservice.perf;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Minimal stand-in for the auth service that answers every call after a fixed delay, so load tests measure how
+ * the blog service copes with slow downstream calls rather than how fast the auth service is.
+ */
+public final class StubAuthServer implements AutoCloseable {
+    private static final String USER_DETAILS = "{\"username\":\"loadtest\",\"roles\":[\"ROLE_USER\",\"ROLE_ADMIN\"]}";
+    private static final String USERS = "[{\"username\":\"loadtest\",\"roles\":[\"ROLE_USER\",\"ROLE_ADMIN\"]}]";
+    private static final String LOGIN = "{\"token\":\"load-test-token\",\"expiresIn\":3600000}";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Duration delay;
+
+    static {
+        // the JDK server closes pooled connections beyond this limit, which the blog service would then see as resets
+        System.setProperty("sun.net.httpserver.maxIdleConnections", "4096");
+    }
+
+    private StubAuthServer(Duration delay) throws IOException {
+        this.delay = delay;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4096);
+        server.setExecutor(executor);
+        server.createContext("/auth/login", exchange -> respond(exchange, 200, LOGIN));
+        server.createContext("/auth/validate", exchange -> respond(exchange, 200, "true"));
+        server.createContext("/auth/user-details", exchange -> respond(exchange, 200, USER_DETAILS));
+        server.createContext("/auth/users", exchange -> {
+            if ("DELETE".equals(exchange.getRequestMethod())) {
+                respond(exchange, 204, null);
+            } else {
+                respond(exchange, 200, USERS);
+            }
+        });
+    }
+
+    public static StubAuthServer start(Duration delay) throws IOException {
+        StubAuthServer stub = new StubAuthServer(delay);
+        stub.server.start();
+        return stub;
+    }
+
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            sleep();
+            if (body == null) {
+                exchange.sendResponseHeaders(status, -1);
+                return;
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    private void sleep() {
+        if (delay.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
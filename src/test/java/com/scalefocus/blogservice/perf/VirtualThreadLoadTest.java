@@ -0,0 +1,86 @@
+package com.scalefocus.blogservice.perf;
+
+import com.scalefocus.blogservice.BlogserviceApplication;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares platform and virtual request threads on an admin endpoint that makes three auth service calls and no
+ * database calls. Run with {@code mvn -Pperf test}.
+ */
+@Tag("perf")
+class VirtualThreadLoadTest {
+    private static final int CONCURRENCY = Integer.getInteger("perf.concurrency", 2000);
+    private static final int REQUESTS = Integer.getInteger("perf.requests", 2 * CONCURRENCY);
+    private static final Duration AUTH_DELAY = Duration.ofMillis(Long.getLong("perf.authDelayMs", 50));
+
+    private static StubAuthServer authServer;
+
+    @BeforeAll
+    static void startAuthServer() throws Exception {
+        authServer = StubAuthServer.start(AUTH_DELAY);
+    }
+
+    @AfterAll
+    static void stopAuthServer() {
+        authServer.close();
+    }
+
+    @Test
+    void virtualThreadsOutperformPlatformThreadsOnBlockingCalls() throws Exception {
+        LoadDriver.Result platform = runAgainstApplication(false, new AtomicInteger());
+        AtomicInteger pinnedEvents = new AtomicInteger();
+        LoadDriver.Result virtual = runAgainstApplication(true, pinnedEvents);
+
+        System.out.println("Platform threads: " + platform.describe());
+        System.out.println("Virtual threads:  " + virtual.describe());
+        System.out.println("Virtual thread pinned events (>20ms) during the virtual run: " + pinnedEvents.get());
+
+        assertEquals(0, platform.errors(), "platform run had failed requests");
+        assertEquals(0, virtual.errors(), "virtual run had failed requests");
+        assertTrue(virtual.throughput() > platform.throughput(),
+                "expected virtual threads to sustain more requests per second than the platform thread pool");
+    }
+
+    private LoadDriver.Result runAgainstApplication(boolean virtualThreads, AtomicInteger pinnedEvents) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BlogserviceApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--blog.authservice.base-url=" + authServer.baseUrl(),
+                        "--blog.authservice.read-timeout=30s",
+                        "--logging.level.com.scalefocus.blogservice=WARN",
+                        "--logging.level.org.springframework.security=WARN");
+             RecordingStream pinning = new RecordingStream()) {
+            pinning.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(20));
+            pinning.onEvent("jdk.VirtualThreadPinned", event -> pinnedEvents.incrementAndGet());
+            pinning.startAsync();
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/api/blogposts/admin/users");
+            LoadDriver driver = new LoadDriver();
+            IntFunction<HttpRequest> request = i -> HttpRequest.newBuilder(uri)
+                    .header("Authorization", "Bearer load-test-token")
+                    .timeout(Duration.ofSeconds(60))
+                    .GET()
+                    .build();
+
+            driver.run(Math.min(REQUESTS, 500), 50, request);
+            return driver.run(REQUESTS, CONCURRENCY, request);
+        }
+    }
+}
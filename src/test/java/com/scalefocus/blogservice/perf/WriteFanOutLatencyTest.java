@@ -0,0 +1,167 @@
+package com.scalefocus.blogservice.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scalefocus.blogservice.BlogserviceApplication;
+import com.scalefocus.blogservice.service.implementation.ParallelCalls;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures PATCH /api/blogposts/{id} with the permission check fanned out against the same endpoint with the two
+ * lookups run one after the other. Both the stub auth service and every SQL statement are delayed.
+ * Run with {@code mvn -Pperf test}.
+ */
+@Tag("perf")
+class WriteFanOutLatencyTest {
+
+    private static final Duration AUTH_DELAY = Duration.ofMillis(Long.getLong("perf.authDelayMs", 100));
+    private static final Duration DB_DELAY = Duration.ofMillis(Long.getLong("perf.dbDelayMs", 100));
+    private static final int REQUESTS = Integer.getInteger("perf.requests", 30);
+
+    private static StubAuthServer authServer;
+
+    @BeforeAll
+    static void startAuthServer() throws Exception {
+        authServer = StubAuthServer.start(AUTH_DELAY);
+    }
+
+    @AfterAll
+    static void stopAuthServer() {
+        authServer.close();
+    }
+
+    @Test
+    void fanOutHidesTheShorterLookup() throws Exception {
+        LoadDriver.Result sequential = measureUpdates(SequentialCallsConfiguration.class);
+        LoadDriver.Result parallel = measureUpdates();
+
+        System.out.printf("Auth delay %dms, DB delay %dms%n", AUTH_DELAY.toMillis(), DB_DELAY.toMillis());
+        System.out.println("Sequential lookups: " + sequential.describe());
+        System.out.println("Parallel lookups:   " + parallel.describe());
+
+        assertEquals(0, sequential.errors());
+        assertEquals(0, parallel.errors());
+        long saved = sequential.percentile(50).toMillis() - parallel.percentile(50).toMillis();
+        long expected = Math.min(AUTH_DELAY.toMillis(), DB_DELAY.toMillis());
+        assertTrue(saved >= expected / 2, "expected the fan-out to save about " + expected + "ms per update but it saved " + saved + "ms");
+    }
+
+    private LoadDriver.Result measureUpdates(Class<?>... overrides) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BlogserviceApplication.class,
+                DelayedDataSourceConfiguration.class)
+                .sources(overrides)
+                .run("--server.port=0",
+                        "--blog.authservice.base-url=" + authServer.baseUrl(),
+                        "--logging.level.com.scalefocus.blogservice=WARN")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            long postId = createPost(port);
+            URI uri = URI.create("http://localhost:" + port + "/api/blogposts/" + postId);
+
+            LoadDriver driver = new LoadDriver();
+            driver.run(5, 1, i -> update(uri, i));
+            return driver.run(REQUESTS, 1, i -> update(uri, i));
+        }
+    }
+
+    private static long createPost(int port) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/blogposts"))
+                .header("Authorization", "Bearer load-test-token")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"Fan-out post\",\"text\":\"Fan-out post text\"}"))
+                .build();
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), response.body());
+        return new ObjectMapper().readTree(response.body()).get("blogId").asLong();
+    }
+
+    private static HttpRequest update(URI uri, int index) {
+        String body = "{\"title\":\"Fan-out post " + index + "\",\"text\":\"Fan-out post text " + index + "\"}";
+        return HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer load-test-token")
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    @Configuration
+    static class SequentialCallsConfiguration {
+
+        @Bean
+        @Primary
+        ParallelCalls sequentialCalls() {
+            return new ParallelCalls() {
+                @Override
+                public <A, B, R> R both(Supplier<A> first, Supplier<B> second, BiFunction<A, B, R> combiner) {
+                    return combiner.apply(first.get(), second.get());
+                }
+            };
+        }
+    }
+
+    @Configuration
+    static class DelayedDataSourceConfiguration {
+
+        @Bean
+        static BeanPostProcessor delayedDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof DelayedDataSource)) {
+                        return new DelayedDataSource(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    private static final class DelayedDataSource extends DelegatingDataSource {
+
+        private DelayedDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("prepare")) {
+                            // one simulated database round trip per statement
+                            Thread.sleep(DB_DELAY);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+}
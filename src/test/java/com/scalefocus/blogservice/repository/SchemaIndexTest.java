@@ -0,0 +1,132 @@
+package com.scalefocus.blogservice.repository;
+
+import com.scalefocus.blogservice.model.specifications.BlogPostSpecification;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.ChainListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Checks with EXPLAIN on H2 that the SQL Hibernate generates for the hot listing queries is answered from the
+ * indexes added by the migrations.
+ */
+@SpringBootTest
+class SchemaIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into tag (tag_name, time_created) values ('java', current_timestamp), ('spring', current_timestamp)");
+        List<Object[]> posts = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            posts.add(new Object[]{"Post " + i, "author" + (i % 20)});
+        }
+        jdbcTemplate.batchUpdate("insert into blog_post (title, author) values (?, ?)", posts);
+        jdbcTemplate.update("insert into blog_post_tags (blog_post_id, tag_id) select b.blog_id, t.tag_id from blog_post b, tag t"
+                + " where mod(b.blog_id, 2) = 0 or t.tag_name = 'java'");
+        jdbcTemplate.execute("analyze");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from blog_post_tags");
+        jdbcTemplate.update("delete from blog_post");
+        jdbcTemplate.update("delete from tag");
+    }
+
+    @Test
+    void testHasTagUsesJoinTableIndex() {
+        String plan = explainGenerated(() -> blogPostRepository.findSummaries(BlogPostSpecification.hasTag("spring"),
+                PageRequest.of(0, 10)));
+
+        assertThat(plan, containsString("uk_tag_tag_name"));
+        assertThat(plan, containsString("idx_blog_post_tags_tag_post"));
+        assertThat(plan, not(containsString("tableScan")));
+    }
+
+    @Test
+    void testFindByTagNameUsesJoinTableIndex() {
+        String plan = explainGenerated(() -> blogPostRepository.findByTags_TagName("spring"));
+
+        assertThat(plan, containsString("idx_blog_post_tags_tag_post"));
+        assertThat(plan, not(containsString("tableScan")));
+    }
+
+    @Test
+    void testAuthorLookupUsesAuthorIndex() {
+        String plan = explainGenerated(() -> blogPostRepository.findSummaries(
+                Specification.where(BlogPostSpecification.hasAuthor("author3")).and(BlogPostSpecification.hasIdBefore(150L)),
+                Sort.by(Sort.Direction.DESC, "blogId"), 11));
+
+        assertThat(plan, containsString("idx_blog_post_author"));
+        assertThat(plan, not(containsString("tableScan")));
+    }
+
+    /**
+     * Runs the repository call, captures the first statement Hibernate sends through the datasource proxy and
+     * explains it with the parameters it was executed with.
+     */
+    private String explainGenerated(Runnable repositoryCall) {
+        List<QueryInfo> captured = new CopyOnWriteArrayList<>();
+        QueryExecutionListener listener = new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                captured.addAll(queryInfoList);
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                // captured before execution
+            }
+        };
+        ChainListener chain = (ChainListener) ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener();
+        chain.addListener(listener);
+        try {
+            repositoryCall.run();
+        } finally {
+            chain.getListeners().remove(listener);
+        }
+
+        assertFalse(captured.isEmpty(), "The repository call executed no SQL");
+        QueryInfo query = captured.getFirst();
+        Object[] parameters = query.getParametersList().isEmpty() ? new Object[0] : query.getParametersList().getFirst().stream()
+                .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                .map(operation -> operation.getArgs()[1])
+                .toArray();
+        return explain(query.getQuery(), parameters);
+    }
+
+    private String explain(String sql, Object... parameters) {
+        return jdbcTemplate.queryForObject("explain " + sql, String.class, parameters);
+    }
+}
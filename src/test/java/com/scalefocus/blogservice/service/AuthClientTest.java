@@ -7,17 +7,22 @@ import com.scalefocus.blogservice.dto.UserDetailsDto;
 import com.scalefocus.blogservice.exceptions.UserDeletionFailedException;
 import com.scalefocus.blogservice.exceptions.UserDetailsRetrievalException;
 import com.scalefocus.blogservice.service.implementation.AuthClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,7 +32,7 @@ import static org.springframework.test.web.client.response.MockRestResponseCreat
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 
 @RestClientTest(AuthClient.class)
-@Import(ApplicationConfiguration.class)
+@Import({ApplicationConfiguration.class, SimpleMeterRegistry.class})
 class AuthClientTest {
     @Autowired
     private AuthClient authClient;
@@ -38,6 +43,9 @@ class AuthClientTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private MockRestServiceServer mockServer;
     private final String authServiceUrl = "http://localhost:8081/auth/login";
     private final String authServiceValidationUrl = "http://localhost:8081/auth/validate";
@@ -45,6 +53,7 @@ class AuthClientTest {
     @BeforeEach
     public void setUp() {
         mockServer = MockRestServiceServer.createServer(restTemplate);
+        meterRegistry.clear();
     }
 
     @Test
@@ -222,4 +231,37 @@ class AuthClientTest {
         assertEquals("Failed to delete user", exception.getMessage());
         mockServer.verify();
     }
+
+    @Test
+    void testRemoteCalls_RecordTimerPerOperationAndOutcome() {
+        String token = "dummy-token";
+        mockServer.expect(requestTo(authServiceValidationUrl)).andRespond(withSuccess());
+        mockServer.expect(requestTo(authServiceValidationUrl)).andRespond(withStatus(HttpStatus.UNAUTHORIZED));
+
+        authClient.validateToken(token);
+        authClient.validateToken(token);
+
+        assertEquals(1, meterRegistry.get("blog.auth.client.requests")
+                .tags("operation", "validate", "outcome", "SUCCESS").timer().count());
+        assertEquals(1, meterRegistry.get("blog.auth.client.requests")
+                .tags("operation", "validate", "outcome", "CLIENT_ERROR").timer().count());
+        mockServer.verify();
+    }
+
+    @Test
+    void testRemoteCalls_RecordTimeoutAndIoErrorOutcomes() {
+        String token = "dummy-token";
+        String userDetailsServiceUrl = "http://localhost:8081/auth/user-details";
+        mockServer.expect(requestTo(userDetailsServiceUrl)).andRespond(withException(new SocketTimeoutException("Read timed out")));
+        mockServer.expect(requestTo(userDetailsServiceUrl)).andRespond(withException(new ConnectException("Connection refused")));
+
+        assertThrows(ResourceAccessException.class, () -> authClient.getUserDetails(token));
+        assertThrows(ResourceAccessException.class, () -> authClient.getUserDetails(token));
+
+        assertEquals(1, meterRegistry.get("blog.auth.client.requests")
+                .tags("operation", "user-details", "outcome", "TIMEOUT").timer().count());
+        assertEquals(1, meterRegistry.get("blog.auth.client.requests")
+                .tags("operation", "user-details", "outcome", "IO_ERROR").timer().count());
+        mockServer.verify();
+    }
 }
@@ -1,16 +1,24 @@
 package com.scalefocus.blogservice.service;
 
+import com.scalefocus.blogservice.config.BlogPostProperties;
+import com.scalefocus.blogservice.config.ExistenceFilterProperties;
+import com.scalefocus.blogservice.dto.AuthorPostsDTO;
+import com.scalefocus.blogservice.dto.BlogPostBatchDTO;
 import com.scalefocus.blogservice.dto.BlogPostDTO;
 import com.scalefocus.blogservice.dto.CreateBlogPostDTO;
+import com.scalefocus.blogservice.dto.ResponseTagDTO;
 import com.scalefocus.blogservice.exceptions.BlogPostCreationException;
 import com.scalefocus.blogservice.exceptions.BlogPostNotFoundException;
 import com.scalefocus.blogservice.exceptions.TagNotFoundException;
 import com.scalefocus.blogservice.mapper.BlogPostMapper;
 import com.scalefocus.blogservice.model.BlogPost;
 import com.scalefocus.blogservice.model.Tag;
+import com.scalefocus.blogservice.model.projections.BlogPostSummary;
 import com.scalefocus.blogservice.repository.BlogPostRepository;
 import com.scalefocus.blogservice.repository.TagRepository;
+import com.scalefocus.blogservice.service.implementation.AuthorPostCounts;
 import com.scalefocus.blogservice.service.implementation.BlogPostServiceImpl;
+import com.scalefocus.blogservice.service.implementation.ExistenceFilters;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,14 +33,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 class BlogPostServiceTest {
 
     private BlogPostRepository blogPostRepository;
     private TagRepository tagRepository;
-    private BlogPostServiceImpl blogPostService = new BlogPostServiceImpl(null, null);
+    private AuthorPostCounts authorPostCounts;
+    private ExistenceFilters existenceFilters;
+    private BlogPostServiceImpl blogPostService = new BlogPostServiceImpl(null, null, null, null, null, null);
     private final BlogPostMapper blogPostMapper = BlogPostMapper.INSTANCE;
 
 
@@ -40,7 +52,10 @@ class BlogPostServiceTest {
     public void setUp() {
         blogPostRepository = mock(BlogPostRepository.class);
         tagRepository = mock(TagRepository.class);
-        blogPostService = new BlogPostServiceImpl(blogPostRepository, tagRepository);
+        authorPostCounts = mock(AuthorPostCounts.class);
+        existenceFilters = new ExistenceFilters(blogPostRepository, new ExistenceFilterProperties());
+        blogPostService = new BlogPostServiceImpl(blogPostRepository, tagRepository, authorPostCounts, new BlogPostProperties(),
+                existenceFilters, mock(PlatformTransactionManager.class));
     }
 
     @Test
@@ -51,7 +66,7 @@ class BlogPostServiceTest {
                 .build();
         blogPost.setBlogId(1L);
 
-        when(blogPostRepository.findById(1L)).thenReturn(Optional.of(blogPost));
+        when(blogPostRepository.findWithTagsByBlogId(1L)).thenReturn(Optional.of(blogPost));
 
         BlogPostDTO result = blogPostService.getBlogPostById(1L);
 
@@ -61,11 +76,90 @@ class BlogPostServiceTest {
 
     @Test
     void testGetBlogPostById_NotFound() {
-        when(blogPostRepository.findById(1L)).thenReturn(Optional.empty());
+        when(blogPostRepository.findWithTagsByBlogId(1L)).thenReturn(Optional.empty());
 
         Assertions.assertThrows(BlogPostNotFoundException.class, () -> blogPostService.getBlogPostById(1L));
     }
 
+    @Test
+    void testGetBlogPostsByIds_KeepsRequestedOrderAndReportsMissing() {
+        BlogPost first = BlogPost.builder().blogId(1L).title("First post").text("First text").build();
+        BlogPost third = BlogPost.builder().blogId(3L).title("Third post").text("Third text").build();
+        Tag tag = Tag.builder().tagId(7L).tagName("java").build();
+
+        when(blogPostRepository.findAllByBlogIdIn(List.of(3L, 2L, 1L))).thenReturn(List.of(first, third));
+        when(blogPostRepository.findTagsByBlogPostIds(List.of(1L, 3L))).thenReturn(Map.of(3L, List.of(tag)));
+
+        BlogPostBatchDTO result = blogPostService.getBlogPostsByIds(List.of(3L, 2L, 1L, 3L));
+
+        Assertions.assertEquals(List.of(3L, 1L), result.posts().stream().map(BlogPostDTO::getBlogId).toList());
+        Assertions.assertEquals("java", result.posts().getFirst().getTags().getFirst().tagName());
+        Assertions.assertTrue(result.posts().getLast().getTags().isEmpty());
+        Assertions.assertEquals(List.of(2L), result.missingIds());
+    }
+
+    @Test
+    void testGetBlogPostsByIds_TooMany() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 101; id++) {
+            ids.add(id);
+        }
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> blogPostService.getBlogPostsByIds(ids));
+        verifyNoInteractions(blogPostRepository);
+    }
+
+    @Test
+    void testGetBlogPostById_RuledOutByExistenceFilter() {
+        when(blogPostRepository.findIdsAfter(anyLong(), any())).thenReturn(List.of(1L, 2L, 500L));
+        existenceFilters.rebuild();
+        clearInvocations(blogPostRepository);
+
+        BlogPostNotFoundException exception = Assertions.assertThrows(BlogPostNotFoundException.class,
+                () -> blogPostService.getBlogPostById(404L));
+
+        Assertions.assertEquals(0, exception.getStackTrace().length);
+        verifyNoInteractions(blogPostRepository);
+    }
+
+    @Test
+    void testGetBlogPostById_AboveLoadedIdsGoesToDatabase() {
+        when(blogPostRepository.findIdsAfter(anyLong(), any())).thenReturn(List.of(1L, 2L));
+        existenceFilters.rebuild();
+
+        // another instance may have created it after the build
+        Assertions.assertThrows(BlogPostNotFoundException.class, () -> blogPostService.getBlogPostById(3L));
+        verify(blogPostRepository).findWithTagsByBlogId(3L);
+    }
+
+    @Test
+    void testExistenceFilters_KeepInsertsMadeBeforeBuild() {
+        // post 2 was inserted before the build and committed after the scan went past it
+        existenceFilters.addBlogPost(2L);
+        when(blogPostRepository.findIdsAfter(anyLong(), any())).thenReturn(List.of(1L, 3L));
+        existenceFilters.rebuild();
+
+        Assertions.assertTrue(existenceFilters.mightHaveBlogPost(2L));
+
+        // replayed once, the next build no longer knows it
+        existenceFilters.rebuild();
+        Assertions.assertFalse(existenceFilters.mightHaveBlogPost(2L));
+    }
+
+    @Test
+    void testGetBlogPostAuthor() {
+        when(blogPostRepository.findAuthorByBlogId(1L)).thenReturn(Optional.of("testuser"));
+
+        Assertions.assertEquals("testuser", blogPostService.getBlogPostAuthor(1L));
+    }
+
+    @Test
+    void testGetBlogPostAuthor_NotFound() {
+        when(blogPostRepository.findAuthorByBlogId(1L)).thenReturn(Optional.empty());
+
+        Assertions.assertThrows(BlogPostNotFoundException.class, () -> blogPostService.getBlogPostAuthor(1L));
+    }
+
     @Test
     void testGetFilteredBlogPosts_WithTagOnly() {
         String tag = "Tag1";
@@ -76,7 +170,7 @@ class BlogPostServiceTest {
 
         when(blogPostRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(blogPostPage);
 
-        Page<BlogPostDTO> result = blogPostService.getFilteredBlogPosts(tag, null, null, pageable);
+        Page<BlogPostDTO> result = blogPostService.getFilteredBlogPosts(tag, null, null, null, pageable);
 
         Assertions.assertEquals(1, result.getTotalElements());
         Assertions.assertEquals("Test title 1", result.getContent().getFirst().getTitle());
@@ -92,7 +186,7 @@ class BlogPostServiceTest {
 
         when(blogPostRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(blogPostPage);
 
-        Page<BlogPostDTO> result = blogPostService.getFilteredBlogPosts(null, parity, null, pageable);
+        Page<BlogPostDTO> result = blogPostService.getFilteredBlogPosts(null, parity, null, null, pageable);
 
         Assertions.assertEquals(1, result.getTotalElements());
         Assertions.assertEquals("Test title 1", result.getContent().getFirst().getTitle());
@@ -102,12 +196,13 @@ class BlogPostServiceTest {
     void testGetFilteredBlogPosts_WithSummaryLimitOnly() {
         int summaryLimit = 10;
         Pageable pageable = PageRequest.of(0, 10);
-        BlogPost blogPost = BlogPost.builder().title("Test title 1").text("Test content that is long").build();
-        Page<BlogPost> blogPostPage = new PageImpl<>(List.of(blogPost));
+        Page<BlogPostSummary> summaryPage = new PageImpl<>(List.of(
+                new BlogPostSummary(1L, "Test title 1", null, "Test content that is long", 25)));
 
-        when(blogPostRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(blogPostPage);
+        when(blogPostRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(summaryPage);
+        when(blogPostRepository.findTagsByBlogPostIds(List.of(1L))).thenReturn(Map.of());
 
-        Page<BlogPostDTO> result = blogPostService.getFilteredBlogPosts(null, null, summaryLimit, pageable);
+        Page<BlogPostDTO> result = blogPostService.getFilteredBlogPosts(null, null, null, summaryLimit, pageable);
 
         Assertions.assertEquals(1, result.getTotalElements());
         Assertions.assertEquals("Test c ...", result.getContent().getFirst().getText());
@@ -118,13 +213,13 @@ class BlogPostServiceTest {
         String parity = "even";
         int summaryLimit = 10;
         Pageable pageable = PageRequest.of(0, 10);
-        BlogPost blogPost = BlogPost.builder().title("Test title 1").text("Test content that is long").build();
-        blogPost.setTags(List.of(Tag.builder().tagName("Tag1").build(), Tag.builder().tagName("Tag2").build()));
-        Page<BlogPost> blogPostPage = new PageImpl<>(List.of(blogPost));
+        Page<BlogPostSummary> summaryPage = new PageImpl<>(List.of(
+                new BlogPostSummary(1L, "Test title 1", null, "Test content that is long", 25)));
 
-        when(blogPostRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(blogPostPage);
+        when(blogPostRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(summaryPage);
+        when(blogPostRepository.findTagsByBlogPostIds(List.of(1L))).thenReturn(Map.of(1L, List.of(Tag.builder().tagName("Tag1").build(), Tag.builder().tagName("Tag2").build())));
 
-        Page<BlogPostDTO> result = blogPostService.getFilteredBlogPosts(null, parity, summaryLimit, pageable);
+        Page<BlogPostDTO> result = blogPostService.getFilteredBlogPosts(null, parity, null, summaryLimit, pageable);
 
         Assertions.assertEquals(1, result.getTotalElements());
         Assertions.assertEquals("Test c ...", result.getContent().getFirst().getText());
@@ -135,19 +230,54 @@ class BlogPostServiceTest {
         String tag = "Tag1";
         int summaryLimit = 10;
         Pageable pageable = PageRequest.of(0, 10);
-        BlogPost blogPost = BlogPost.builder().title("Test title 1").text("Test content that is long").build();
-        blogPost.setTags(List.of(Tag.builder().tagName(tag).build()));
-        Page<BlogPost> blogPostPage = new PageImpl<>(List.of(blogPost));
+        Page<BlogPostSummary> summaryPage = new PageImpl<>(List.of(
+                new BlogPostSummary(1L, "Test title 1", null, "Test content that is long", 25)));
 
-        when(blogPostRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(blogPostPage);
+        when(blogPostRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(summaryPage);
+        when(blogPostRepository.findTagsByBlogPostIds(List.of(1L))).thenReturn(Map.of(1L, List.of(Tag.builder().tagName(tag).build())));
 
-        Page<BlogPostDTO> result = blogPostService.getFilteredBlogPosts(tag, null, summaryLimit, pageable);
+        Page<BlogPostDTO> result = blogPostService.getFilteredBlogPosts(tag, null, null, summaryLimit, pageable);
 
         Assertions.assertEquals(1, result.getTotalElements());
         Assertions.assertEquals("Test c ...", result.getContent().getFirst().getText());
     }
 
 
+    @Test
+    void testGetFilteredBlogPosts_SummaryLimitWithoutStoredSummary() {
+        int summaryLimit = 10;
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<BlogPostSummary> summaryPage = new PageImpl<>(List.of(
+                new BlogPostSummary(1L, "Test title 1", null, null, null),
+                new BlogPostSummary(2L, "Test title 2", null, "Test content that is long", 25)));
+
+        when(blogPostRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(summaryPage);
+        when(blogPostRepository.findTagsByBlogPostIds(List.of(1L, 2L))).thenReturn(Map.of());
+        when(blogPostRepository.findTextsByBlogPostIds(List.of(1L))).thenReturn(Map.of(1L, "Older content that is long"));
+
+        Page<BlogPostDTO> result = blogPostService.getFilteredBlogPosts(null, null, null, summaryLimit, pageable);
+
+        Assertions.assertEquals("Older  ...", result.getContent().get(0).getText());
+        Assertions.assertEquals("Test c ...", result.getContent().get(1).getText());
+        verify(blogPostRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void testGetFilteredBlogPosts_SummaryLimitAboveStoredSummary() {
+        int summaryLimit = 20;
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<BlogPostSummary> summaryPage = new PageImpl<>(List.of(
+                new BlogPostSummary(1L, "Test title 1", null, "Test conte", 25)));
+
+        when(blogPostRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(summaryPage);
+        when(blogPostRepository.findTagsByBlogPostIds(List.of(1L))).thenReturn(Map.of());
+        when(blogPostRepository.findTextsByBlogPostIds(List.of(1L))).thenReturn(Map.of(1L, "Test content that is long"));
+
+        Page<BlogPostDTO> result = blogPostService.getFilteredBlogPosts(null, null, null, summaryLimit, pageable);
+
+        Assertions.assertEquals("Test content tha ...", result.getContent().getFirst().getText());
+    }
+
     @Test
     void testGetFilteredBlogPosts_NoFilters() {
         Pageable pageable = PageRequest.of(0, 10);
@@ -157,13 +287,55 @@ class BlogPostServiceTest {
 
         when(blogPostRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(blogPostPage);
 
-        Page<BlogPostDTO> result = blogPostService.getFilteredBlogPosts(null, null, null, pageable);
+        Page<BlogPostDTO> result = blogPostService.getFilteredBlogPosts(null, null, null, null, pageable);
 
         Assertions.assertEquals(2, result.getTotalElements());
         Assertions.assertEquals("Test title 1", result.getContent().get(0).getTitle());
         Assertions.assertEquals("Test title 2", result.getContent().get(1).getTitle());
     }
 
+    @Test
+    void testGetFilteredBlogPosts_WithAuthor() {
+        Pageable pageable = PageRequest.of(0, 10);
+        BlogPost blogPost = BlogPost.builder().title("Test title 1").text("Test content 1").author("testuser").build();
+
+        when(blogPostRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(blogPost)));
+
+        Page<BlogPostDTO> result = blogPostService.getFilteredBlogPosts(null, null, "testuser", null, pageable);
+
+        Assertions.assertEquals("testuser", result.getContent().getFirst().getAuthor());
+    }
+
+    @Test
+    void testGetAuthorPosts() {
+        List<BlogPostSummary> rows = List.of(
+                new BlogPostSummary(9L, "Title 9", "testuser", "Text 9", 6),
+                new BlogPostSummary(7L, "Title 7", "testuser", "Text 7", 6),
+                new BlogPostSummary(4L, "Title 4", "testuser", "Text 4", 6));
+
+        when(blogPostRepository.findSummaries(any(Specification.class), eq(Sort.by(Sort.Direction.DESC, "blogId")), eq(3))).thenReturn(rows);
+        when(blogPostRepository.findTagsByBlogPostIds(List.of(9L, 7L))).thenReturn(Map.of());
+        when(authorPostCounts.get("testuser")).thenReturn(12L);
+
+        AuthorPostsDTO result = blogPostService.getAuthorPosts("testuser", 10L, 2, 30);
+
+        Assertions.assertEquals(12L, result.postCount());
+        Assertions.assertEquals(List.of(9L, 7L), result.posts().stream().map(BlogPostDTO::getBlogId).toList());
+        Assertions.assertEquals(7L, result.nextBefore());
+    }
+
+    @Test
+    void testGetAuthorPosts_LastPage() {
+        when(blogPostRepository.findSummaries(any(Specification.class), any(Sort.class), eq(3)))
+                .thenReturn(List.of(new BlogPostSummary(4L, "Title 4", "testuser", "Text 4", 6)));
+        when(blogPostRepository.findTagsByBlogPostIds(List.of(4L))).thenReturn(Map.of());
+
+        AuthorPostsDTO result = blogPostService.getAuthorPosts("testuser", 7L, 2, 30);
+
+        Assertions.assertEquals(1, result.posts().size());
+        Assertions.assertNull(result.nextBefore());
+    }
+
     @Test
     void testAddBlogPost() {
         CreateBlogPostDTO createBlogPostDTO = new CreateBlogPostDTO("Test title", "Test content", new ArrayList<>());
@@ -182,6 +354,7 @@ class BlogPostServiceTest {
         Assertions.assertEquals(createBlogPostDTO.text(), savedBlogPost.getText());
         Assertions.assertEquals("testuser", savedBlogPost.getAuthor());
         Assertions.assertNotNull(result);
+        verify(authorPostCounts).evict("testuser");
     }
 
     @Test
@@ -195,6 +368,34 @@ class BlogPostServiceTest {
         Assertions.assertEquals("Failed to create blog post", exception.getMessage());
     }
 
+    @Test
+    void testAddBlogPost_CommitFailure() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        doThrow(new IllegalStateException("commit failed")).when(transactionManager).commit(any());
+        blogPostService = new BlogPostServiceImpl(blogPostRepository, tagRepository, authorPostCounts, new BlogPostProperties(),
+                existenceFilters, transactionManager);
+        CreateBlogPostDTO blogPostDTO = new CreateBlogPostDTO("Test title", "Test content", new ArrayList<>());
+
+        when(blogPostRepository.save(any(BlogPost.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Assertions.assertThrows(BlogPostCreationException.class, () -> blogPostService.addBlogPost(blogPostDTO, "testuser"));
+    }
+
+    @Test
+    void testAddBlogPost_DuplicateTagNames() {
+        Tag tag = Tag.builder().tagId(5L).tagName("spring").build();
+        CreateBlogPostDTO createBlogPostDTO = new CreateBlogPostDTO("Test title", "Test content", List.of(
+                new ResponseTagDTO(null, "spring", null), new ResponseTagDTO(null, "spring", null)));
+
+        when(tagRepository.findByTagName("spring")).thenReturn(Optional.of(tag));
+        when(blogPostRepository.save(any(BlogPost.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BlogPostDTO result = blogPostService.addBlogPost(createBlogPostDTO, "testuser");
+
+        Assertions.assertEquals(1, result.getTags().size());
+        verify(tagRepository, times(1)).findByTagName("spring");
+    }
+
     @Test
     void testGetBlogPosts() {
         BlogPost blogPost = BlogPost.builder().title("Test title").text("Test content").build();
@@ -228,6 +429,23 @@ class BlogPostServiceTest {
 
     }
 
+    @Test
+    void testUpdateBlogPost_DuplicateTagNames() {
+        BlogPost blogPost = BlogPost.builder().title("Test title").text("Test content").build();
+        blogPost.setBlogId(1L);
+        Tag tag = Tag.builder().tagId(5L).tagName("spring").build();
+        BlogPostDTO updatedBlogPostDTO = new BlogPostDTO(1L, null, null, List.of(
+                new ResponseTagDTO(null, "spring", null), new ResponseTagDTO(null, "spring", null)));
+
+        when(blogPostRepository.findById(1L)).thenReturn(Optional.of(blogPost));
+        when(tagRepository.findByTagName("spring")).thenReturn(Optional.of(tag));
+
+        blogPostService.updateBlogPost(1L, updatedBlogPostDTO);
+
+        Assertions.assertEquals(List.of(tag), blogPost.getTags());
+        verify(blogPostRepository, times(1)).save(blogPost);
+    }
+
     @Test
     void testAddTagToBlogPost() {
         BlogPost blogPost = BlogPost.builder()
@@ -235,17 +453,18 @@ class BlogPostServiceTest {
                 .text("Test content")
                 .build();
         blogPost.setBlogId(1L);
-        blogPost.setTags(new ArrayList<>());
 
-        Tag newTag = Tag.builder().tagName("New Tag").build();
+        Tag newTag = Tag.builder().tagId(5L).tagName("New Tag").build();
 
         when(blogPostRepository.findById(1L)).thenReturn(Optional.of(blogPost));
         when(tagRepository.findByTagName("New Tag")).thenReturn(Optional.of(newTag));
+        when(blogPostRepository.attachTag(1L, 5L)).thenReturn(1);
+        when(blogPostRepository.findTagsByBlogPostIds(List.of(1L))).thenReturn(Map.of(1L, List.of(newTag)));
 
         BlogPostDTO result = blogPostService.addTagToBlogPost(1L, "New Tag");
 
-        verify(blogPostRepository, times(1)).save(blogPost);
-        Assertions.assertTrue(blogPost.getTags().contains(newTag));
+        verify(blogPostRepository, times(1)).attachTag(1L, 5L);
+        verify(blogPostRepository, never()).save(any(BlogPost.class));
         Assertions.assertEquals("Test title", result.getTitle());
         Assertions.assertEquals("Test content", result.getText());
         Assertions.assertTrue(result.getTags().stream().anyMatch(tagDTO -> tagDTO.tagName().equals("New Tag")));
@@ -259,19 +478,18 @@ class BlogPostServiceTest {
                 .build();
         blogPost.setBlogId(1L);
 
-        Tag tag1 = Tag.builder().tagName("Tag1").build();
-        Tag tag2 = Tag.builder().tagName("Tag2").build();
-
-        List<Tag> tags = new ArrayList<>(Arrays.asList(tag1, tag2));
-        blogPost.setTags(tags);
+        Tag tag1 = Tag.builder().tagId(1L).tagName("Tag1").build();
+        Tag tag2 = Tag.builder().tagId(2L).tagName("Tag2").build();
 
         when(blogPostRepository.findById(1L)).thenReturn(Optional.of(blogPost));
         when(tagRepository.findByTagName("Tag1")).thenReturn(Optional.of(tag1));
+        when(blogPostRepository.detachTag(1L, 1L)).thenReturn(1);
+        when(blogPostRepository.findTagsByBlogPostIds(List.of(1L))).thenReturn(Map.of(1L, List.of(tag2)));
 
         BlogPostDTO result = blogPostService.removeTagFromBlogPost(1L, "Tag1");
 
-        verify(blogPostRepository, times(1)).save(blogPost);
-        Assertions.assertFalse(blogPost.getTags().contains(tag1));
+        verify(blogPostRepository, times(1)).detachTag(1L, 1L);
+        verify(blogPostRepository, never()).save(any(BlogPost.class));
         Assertions.assertEquals("Test title", result.getTitle());
         Assertions.assertEquals("Test content", result.getText());
         Assertions.assertEquals(1, result.getTags().size());
@@ -283,19 +501,16 @@ class BlogPostServiceTest {
     void testDeleteBlogPost() {
         Tag tag1 = Tag.builder().tagName("Tag 1").build();
         Tag tag2 = Tag.builder().tagName("Tag 2").build();
-        BlogPost blogPost = BlogPost.builder().title("Test title").text("Test content").build();
+        BlogPost blogPost = BlogPost.builder().title("Test title").text("Test content").author("testuser").build();
 
         blogPost.setBlogId(1L);
         blogPost.setTags(new ArrayList<>(Arrays.asList(tag1, tag2)));
-        tag1.setBlogPosts(new ArrayList<>(Collections.singletonList(blogPost)));
-        tag2.setBlogPosts(new ArrayList<>(Collections.singletonList(blogPost)));
 
 
         when(blogPostRepository.findById(1L)).thenReturn(Optional.of(blogPost));
         blogPostService.deleteBlogPost(1L);
         verify(blogPostRepository, times(1)).delete(blogPost);
-        Assertions.assertFalse(tag1.getBlogPosts().contains(blogPost));
-        Assertions.assertFalse(tag2.getBlogPosts().contains(blogPost));
+        verify(authorPostCounts).evict("testuser");
     }
 
     @Test
@@ -311,7 +526,7 @@ class BlogPostServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
-                () -> blogPostService.getFilteredBlogPosts(null, invalidParity, null, pageable));
+                () -> blogPostService.getFilteredBlogPosts(null, invalidParity, null, null, pageable));
 
         Assertions.assertEquals("Invalid value for parity. It must be 'even' or 'odd'.", exception.getMessage());
     }
@@ -337,7 +552,6 @@ class BlogPostServiceTest {
         BlogPost blogPost = BlogPost.builder()
                 .title("Test title")
                 .text("Test content")
-                .tags(new ArrayList<>())
                 .build();
         blogPost.setBlogId(1L);
 
@@ -345,12 +559,14 @@ class BlogPostServiceTest {
 
         when(blogPostRepository.findById(1L)).thenReturn(Optional.of(blogPost));
         when(tagRepository.findByTagName(newTagName)).thenReturn(Optional.empty());
-        when(tagRepository.save(any(Tag.class))).thenAnswer(i -> i.getArguments()[0]);
-        when(blogPostRepository.save(blogPost)).thenReturn(blogPost);
+        when(tagRepository.save(any(Tag.class))).thenAnswer(i -> ((Tag) i.getArguments()[0]).toBuilder().tagId(9L).build());
+        when(blogPostRepository.findTagsByBlogPostIds(List.of(1L)))
+                .thenReturn(Map.of(1L, List.of(Tag.builder().tagId(9L).tagName(newTagName).build())));
 
         BlogPostDTO result = blogPostService.addTagToBlogPost(1L, newTagName);
 
         verify(tagRepository, times(1)).save(any(Tag.class));
+        verify(blogPostRepository, times(1)).attachTag(1L, 9L);
         Assertions.assertTrue(result.getTags().stream().anyMatch(tagDTO -> tagDTO.tagName().equals(newTagName)));
     }
 
@@ -422,7 +638,7 @@ class BlogPostServiceTest {
 
         IllegalArgumentException exception = Assertions.assertThrows(
                 IllegalArgumentException.class,
-                () -> blogPostService.getFilteredBlogPosts(null, null, invalidSummaryLimit, pageable)
+                () -> blogPostService.getFilteredBlogPosts(null, null, null, invalidSummaryLimit, pageable)
         );
 
         Assertions.assertEquals("summaryLimit must be at least 5", exception.getMessage());
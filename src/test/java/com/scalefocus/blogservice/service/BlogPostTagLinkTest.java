@@ -0,0 +1,106 @@
+package com.scalefocus.blogservice.service;
+
+import com.scalefocus.blogservice.dto.BlogPostDTO;
+import com.scalefocus.blogservice.model.BlogPost;
+import com.scalefocus.blogservice.model.Tag;
+import com.scalefocus.blogservice.repository.BlogPostRepository;
+import com.scalefocus.blogservice.repository.TagRepository;
+import com.scalefocus.blogservice.service.implementation.BlogPostServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@SpringBootTest
+class BlogPostTagLinkTest {
+
+    private static final int EXISTING_TAGS = 50;
+
+    @Autowired
+    private BlogPostServiceImpl blogPostService;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long blogPostId;
+
+    @BeforeEach
+    void setUp() {
+        blogPostId = transactionTemplate.execute(status -> {
+            List<Tag> tags = new ArrayList<>();
+            for (int i = 0; i < EXISTING_TAGS; i++) {
+                tags.add(tagRepository.save(Tag.builder().tagName("tag" + i).build()));
+            }
+            return blogPostRepository.save(BlogPost.builder()
+                    .title("Heavily tagged post")
+                    .text("Text of a heavily tagged post")
+                    .author("testuser")
+                    .tags(tags)
+                    .build()).getBlogId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        blogPostRepository.deleteAll();
+        tagRepository.deleteAll();
+    }
+
+    @Test
+    void testAddTag_IsOneInsertAndIdempotent() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        BlogPostDTO result = blogPostService.addTagToBlogPost(blogPostId, "tag-new");
+
+        // the post's tag collection is never loaded and nothing is re-inserted, whatever the post's tag count
+        Assertions.assertEquals(0, statistics.getCollectionLoadCount());
+        Assertions.assertEquals(0, statistics.getCollectionUpdateCount());
+        Assertions.assertEquals(EXISTING_TAGS + 1, result.getTags().size());
+
+        blogPostService.addTagToBlogPost(blogPostId, "tag-new");
+        Assertions.assertEquals(EXISTING_TAGS + 1, linkCount());
+    }
+
+    @Test
+    void testRemoveTag_DeletesOneRow() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        BlogPostDTO result = blogPostService.removeTagFromBlogPost(blogPostId, "tag0");
+
+        Assertions.assertEquals(0, statistics.getCollectionLoadCount());
+        Assertions.assertEquals(0, statistics.getCollectionUpdateCount());
+        Assertions.assertEquals(EXISTING_TAGS - 1, result.getTags().size());
+        Assertions.assertTrue(result.getTags().stream().noneMatch(tag -> tag.tagName().equals("tag0")));
+
+        blogPostService.removeTagFromBlogPost(blogPostId, "tag0");
+        Assertions.assertEquals(EXISTING_TAGS - 1, linkCount());
+    }
+
+    private int linkCount() {
+        return jdbcTemplate.queryForObject("select count(*) from blog_post_tags where blog_post_id = ?", Integer.class, blogPostId);
+    }
+}
@@ -0,0 +1,45 @@
+package com.scalefocus.blogservice.service;
+
+import com.scalefocus.blogservice.service.implementation.BloomFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    private static final int ENTRIES = 100_000;
+
+    @Test
+    void testPutKeys_AreAlwaysFound() {
+        BloomFilter filter = BloomFilter.create(ENTRIES, 0.01);
+        for (long id = 1; id <= ENTRIES; id++) {
+            filter.put(id);
+            filter.put("tag-" + id);
+        }
+
+        for (long id = 1; id <= ENTRIES; id++) {
+            Assertions.assertTrue(filter.mightContain(id));
+            Assertions.assertTrue(filter.mightContain("tag-" + id));
+        }
+    }
+
+    @Test
+    void testAbsentKeys_FalsePositiveRateNearConfigured() {
+        BloomFilter filter = BloomFilter.create(ENTRIES, 0.01);
+        for (long id = 1; id <= ENTRIES; id++) {
+            filter.put(id);
+        }
+
+        int falsePositives = 0;
+        for (long id = ENTRIES + 1; id <= 2L * ENTRIES; id++) {
+            if (filter.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+        Assertions.assertTrue(falsePositives < ENTRIES * 0.02, "false positive rate was " + (double) falsePositives / ENTRIES);
+    }
+
+    @Test
+    void testCreate_InvalidProbability() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(ENTRIES, 1.0));
+    }
+}
@@ -0,0 +1,156 @@
+package com.scalefocus.blogservice.service;
+
+import com.scalefocus.blogservice.exceptions.IdempotencyKeyInUseException;
+import com.scalefocus.blogservice.exceptions.IdempotencyKeyMismatchException;
+import com.scalefocus.blogservice.model.IdempotencyRecord;
+import com.scalefocus.blogservice.model.IdempotencyRecordId;
+import com.scalefocus.blogservice.model.IdempotencyStatus;
+import com.scalefocus.blogservice.repository.IdempotencyRecordRepository;
+import com.scalefocus.blogservice.service.implementation.IdempotencyStore;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.ChainListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "blog.idempotency.wait-timeout=2s")
+class IdempotencyStoreTest {
+
+    private static final String HASH = "a".repeat(64);
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        idempotencyRecordRepository.deleteAll();
+    }
+
+    @Test
+    void testComplete_StoresResponse() {
+        String key = UUID.randomUUID().toString();
+
+        IdempotencyStore.Claim claim = idempotencyStore.claim("testuser", key, HASH);
+        assertNull(claim.getReplay());
+        assertEquals(IdempotencyStatus.IN_PROGRESS, record(key).getStatus());
+
+        idempotencyStore.complete(claim, 200, "application/json", "{\"blogId\":4}".getBytes(StandardCharsets.UTF_8));
+
+        IdempotencyRecord record = record(key);
+        assertEquals(IdempotencyStatus.COMPLETED, record.getStatus());
+        assertEquals(200, record.getResponseStatus());
+        assertEquals("{\"blogId\":4}", new String(record.getResponseBody(), StandardCharsets.UTF_8));
+        assertTrue(record.getExpiresAt().isAfter(LocalDateTime.now().plusHours(23)));
+
+        IdempotencyStore.StoredResponse replay = idempotencyStore.claim("testuser", key, HASH).getReplay();
+        assertNotNull(replay);
+        assertEquals("application/json", replay.contentType());
+        assertThrows(IdempotencyKeyMismatchException.class, () -> idempotencyStore.claim("testuser", key, "b".repeat(64)));
+        IdempotencyStore.Claim otherUser = idempotencyStore.claim("otheruser", key, HASH);
+        assertNull(otherUser.getReplay(), "keys are scoped to their user");
+        idempotencyStore.release(otherUser);
+    }
+
+    @Test
+    void testClaim_WaitsForKeyHeldByAnotherInstance() throws Exception {
+        String key = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyRecordRepository.insertInProgress("testuser", key, HASH, now, now.plusMinutes(1));
+
+        CompletableFuture<Void> otherInstance = CompletableFuture.runAsync(() -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            idempotencyRecordRepository.complete(new IdempotencyRecordId("testuser", key), IdempotencyStatus.COMPLETED, 201,
+                    "application/json", "{}".getBytes(StandardCharsets.UTF_8), LocalDateTime.now().plusHours(1));
+        });
+
+        List<String> inserts = new CopyOnWriteArrayList<>();
+        QueryExecutionListener listener = new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                queryInfoList.stream().map(QueryInfo::getQuery).filter(sql -> sql.startsWith("insert")).forEach(inserts::add);
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                // counted before execution
+            }
+        };
+        ChainListener chain = (ChainListener) ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener();
+        chain.addListener(listener);
+        IdempotencyStore.StoredResponse replay;
+        try {
+            replay = idempotencyStore.claim("testuser", key, HASH).getReplay();
+            otherInstance.get();
+        } finally {
+            chain.getListeners().remove(listener);
+        }
+
+        assertNotNull(replay);
+        assertEquals(201, replay.status());
+        assertTrue(inserts.isEmpty(), "polling re-reads the row instead of inserting it again");
+    }
+
+    @Test
+    void testClaim_KeyStillInUse() {
+        String key = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyRecordRepository.insertInProgress("testuser", key, HASH, now, now.plusMinutes(1));
+
+        assertThrows(IdempotencyKeyInUseException.class, () -> idempotencyStore.claim("testuser", key, HASH));
+    }
+
+    @Test
+    void testClaim_TakesOverExpiredClaim() {
+        String key = UUID.randomUUID().toString();
+        LocalDateTime past = LocalDateTime.now().minusMinutes(5);
+        idempotencyRecordRepository.insertInProgress("testuser", key, HASH, past, past.plusMinutes(1));
+
+        IdempotencyStore.Claim claim = idempotencyStore.claim("testuser", key, HASH);
+
+        assertNull(claim.getReplay());
+        idempotencyStore.release(claim);
+        assertTrue(idempotencyRecordRepository.findById(new IdempotencyRecordId("testuser", key)).isEmpty());
+    }
+
+    @Test
+    void testPurgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyRecordRepository.insertInProgress("testuser", "expired", HASH, now.minusDays(2), now.minusDays(1));
+        idempotencyRecordRepository.insertInProgress("testuser", "current", HASH, now, now.plusMinutes(1));
+
+        assertEquals(1, idempotencyStore.purgeExpired());
+
+        assertTrue(idempotencyRecordRepository.findById(new IdempotencyRecordId("testuser", "expired")).isEmpty());
+        assertTrue(idempotencyRecordRepository.findById(new IdempotencyRecordId("testuser", "current")).isPresent());
+    }
+
+    private IdempotencyRecord record(String key) {
+        return idempotencyRecordRepository.findById(new IdempotencyRecordId("testuser", key)).orElseThrow();
+    }
+}
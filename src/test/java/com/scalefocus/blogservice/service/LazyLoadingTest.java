@@ -0,0 +1,127 @@
+package com.scalefocus.blogservice.service;
+
+import com.scalefocus.blogservice.dto.BlogPostDTO;
+import com.scalefocus.blogservice.dto.ResponseTagDTO;
+import com.scalefocus.blogservice.model.BlogPost;
+import com.scalefocus.blogservice.model.Tag;
+import com.scalefocus.blogservice.repository.BlogPostRepository;
+import com.scalefocus.blogservice.repository.TagRepository;
+import com.scalefocus.blogservice.service.implementation.BlogPostServiceImpl;
+import com.scalefocus.blogservice.service.implementation.TagServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.scalefocus.blogservice.support.LazyLoadGuard.allowingOnly;
+import static com.scalefocus.blogservice.support.LazyLoadGuard.noneAllowed;
+import static com.scalefocus.blogservice.support.LazyLoadGuard.role;
+
+/**
+ * Runs service methods in one session, as a request does, and checks that they only initialize the lazy collections
+ * they need. {@code Tag.blogPosts} holds every post of a tag and must never be loaded.
+ */
+@SpringBootTest
+class LazyLoadingTest {
+
+    private static final String BLOG_POST_TAGS = role(BlogPost.class, "tags");
+
+    @Autowired
+    private BlogPostServiceImpl blogPostService;
+
+    @Autowired
+    private TagServiceImpl tagService;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long blogPostId;
+
+    @BeforeEach
+    void setUp() {
+        blogPostId = transactionTemplate.execute(status -> {
+            Tag java = tagRepository.save(Tag.builder().tagName("java").build());
+            Tag spring = tagRepository.save(Tag.builder().tagName("spring").build());
+            for (int i = 0; i < 3; i++) {
+                blogPostRepository.save(post("Other post " + i, java, spring));
+            }
+            return blogPostRepository.save(post("Lazy loading post", java, spring)).getBlogId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        blogPostRepository.deleteAll();
+        tagRepository.deleteAll();
+    }
+
+    @Test
+    void testGetBlogPostById_LoadsOnlyItsTags() {
+        BlogPostDTO result = allowingOnly(entityManagerFactory,
+                () -> transactionTemplate.execute(status -> blogPostService.getBlogPostById(blogPostId)), BLOG_POST_TAGS);
+
+        Assertions.assertEquals(2, result.getTags().size());
+    }
+
+    @Test
+    void testUpdateBlogPostTags_ComparesTagsById() {
+        BlogPostDTO update = new BlogPostDTO(blogPostId, null, null,
+                List.of(new ResponseTagDTO(null, "spring", null), new ResponseTagDTO(null, "java", null)));
+
+        BlogPostDTO result = allowingOnly(entityManagerFactory,
+                () -> transactionTemplate.execute(status -> blogPostService.updateBlogPost(blogPostId, update)), BLOG_POST_TAGS);
+
+        Assertions.assertEquals("spring", result.getTags().get(0).tagName());
+    }
+
+    @Test
+    void testDeleteBlogPost_DoesNotLoadTagPosts() {
+        noneAllowed(entityManagerFactory, () -> transactionTemplate.executeWithoutResult(status -> blogPostService.deleteBlogPost(blogPostId)));
+
+        Assertions.assertFalse(blogPostRepository.existsById(blogPostId));
+        Assertions.assertEquals(3, blogPostRepository.findByTags_TagName("java").size());
+    }
+
+    @Test
+    void testDeleteTag_DoesNotLoadTagPosts() {
+        noneAllowed(entityManagerFactory, () -> transactionTemplate.executeWithoutResult(status -> tagService.deleteTag("java")));
+
+        Assertions.assertFalse(tagRepository.findByTagName("java").isPresent());
+    }
+
+    @Test
+    void testToString_DoesNotWalkCollections() {
+        String description = allowingOnly(entityManagerFactory, () -> transactionTemplate.execute(status -> {
+            BlogPost blogPost = blogPostRepository.findById(blogPostId).orElseThrow();
+            Tag tag = tagRepository.findByTagName("java").orElseThrow();
+            return blogPost + " " + tag;
+        }));
+
+        Assertions.assertTrue(description.contains("Lazy loading post"));
+    }
+
+    private static BlogPost post(String title, Tag... tags) {
+        return BlogPost.builder()
+                .title(title)
+                .text("Text of " + title)
+                .author("testuser")
+                .tags(new ArrayList<>(List.of(tags)))
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.scalefocus.blogservice.service;
+
+import com.scalefocus.blogservice.exceptions.BlogPostNotFoundException;
+import com.scalefocus.blogservice.service.implementation.ParallelCalls;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class ParallelCallsTest {
+
+    private final ParallelCalls parallelCalls = new ParallelCalls();
+
+    @AfterEach
+    void tearDown() {
+        parallelCalls.destroy();
+    }
+
+    @Test
+    void testBoth_RunsCallsConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        String result = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> parallelCalls.both(
+                () -> awaitOther(bothStarted, "user"),
+                () -> awaitOther(bothStarted, "author"),
+                (first, second) -> first + ":" + second));
+
+        Assertions.assertEquals("user:author", result);
+    }
+
+    @Test
+    void testBoth_FailsFastAndCancelsTheOtherCall() {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        BlogPostNotFoundException exception = assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+                Assertions.assertThrows(BlogPostNotFoundException.class, () -> parallelCalls.both(
+                        () -> {
+                            try {
+                                Thread.sleep(Duration.ofMinutes(1));
+                            } catch (InterruptedException e) {
+                                interrupted.countDown();
+                            }
+                            return "user";
+                        },
+                        () -> {
+                            throw new BlogPostNotFoundException(1L);
+                        },
+                        (first, second) -> first + second)));
+
+        Assertions.assertEquals("Blogpost with id 1 not found", exception.getMessage());
+        Assertions.assertTrue(await(interrupted), "the slower call should have been interrupted");
+    }
+
+    private static String awaitOther(CountDownLatch bothStarted, String value) {
+        bothStarted.countDown();
+        Assertions.assertTrue(await(bothStarted), "calls did not overlap");
+        return value;
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
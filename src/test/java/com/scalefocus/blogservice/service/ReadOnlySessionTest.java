@@ -0,0 +1,120 @@
+package com.scalefocus.blogservice.service;
+
+import com.scalefocus.blogservice.model.BlogPost;
+import com.scalefocus.blogservice.model.Tag;
+import com.scalefocus.blogservice.repository.BlogPostRepository;
+import com.scalefocus.blogservice.repository.TagRepository;
+import com.scalefocus.blogservice.service.implementation.BlogPostServiceImpl;
+import com.scalefocus.blogservice.service.implementation.TagServiceImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The GET paths run in read-only sessions: nothing is flushed and loaded entities carry no dirty-checking snapshot,
+ * even when a caller's read-write transaction is already open.
+ */
+@SpringBootTest
+class ReadOnlySessionTest {
+
+    @Autowired
+    private BlogPostServiceImpl blogPostService;
+
+    @Autowired
+    private TagServiceImpl tagService;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Long blogPostId;
+
+    @BeforeEach
+    void setUp() {
+        blogPostId = transactionTemplate.execute(status -> {
+            Tag java = tagRepository.save(Tag.builder().tagName("java").build());
+            return blogPostRepository.save(BlogPost.builder()
+                    .title("Read-only post")
+                    .text("Text of the read-only post")
+                    .author("testuser")
+                    .tags(new ArrayList<>(List.of(java)))
+                    .build()).getBlogId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        blogPostRepository.deleteAll();
+        tagRepository.deleteAll();
+    }
+
+    @Test
+    void testReadPaths_DoNotFlush() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long flushes = statistics.getFlushCount();
+
+        blogPostService.getFilteredBlogPosts(null, null, null, null, PageRequest.of(0, 10));
+        blogPostService.getFilteredBlogPosts("java", null, null, null, PageRequest.of(0, 10));
+        blogPostService.getBlogPostById(blogPostId);
+        tagService.getAllTags();
+
+        Assertions.assertEquals(flushes, statistics.getFlushCount());
+    }
+
+    @Test
+    void testReadQueries_LoadReadOnlyEntities() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+
+            BlogPost listed = blogPostRepository.findAll(Specification.where(null), PageRequest.of(0, 10)).getContent().getFirst();
+            Assertions.assertTrue(session.isReadOnly(listed));
+            session.clear();
+
+            BlogPost post = blogPostRepository.findWithTagsByBlogId(blogPostId).orElseThrow();
+            Assertions.assertTrue(session.isReadOnly(post));
+            Assertions.assertTrue(session.isReadOnly(post.getTags().getFirst()));
+            session.clear();
+
+            Tag tag = tagRepository.findAllReadOnly().getFirst();
+            Assertions.assertTrue(session.isReadOnly(tag));
+            session.clear();
+
+            Tag linked = blogPostRepository.findTagsByBlogPostIds(List.of(blogPostId)).get(blogPostId).getFirst();
+            Assertions.assertTrue(session.isReadOnly(linked));
+        });
+    }
+
+    @Test
+    void testReadOnlyPost_ChangesAreNotWritten() {
+        transactionTemplate.executeWithoutResult(status ->
+                blogPostRepository.findWithTagsByBlogId(blogPostId).orElseThrow().setTitle("Changed title"));
+
+        Assertions.assertEquals("Read-only post", blogPostService.getBlogPostById(blogPostId).getTitle());
+    }
+}
@@ -0,0 +1,89 @@
+package com.scalefocus.blogservice.service;
+
+import com.scalefocus.blogservice.model.BlogPost;
+import com.scalefocus.blogservice.repository.BlogPostRepository;
+import com.scalefocus.blogservice.service.implementation.BlogPostServiceImpl;
+import com.scalefocus.blogservice.service.implementation.SummaryBackfillJob;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@SpringBootTest(properties = "blogpost.summary.backfill-batch-size=2")
+class SummaryBackfillJobTest {
+
+    private static final String LONG_TEXT = "A text that is well over the stored summary limit of thirty characters";
+
+    @Autowired
+    private SummaryBackfillJob summaryBackfillJob;
+
+    @Autowired
+    private BlogPostServiceImpl blogPostService;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        blogPostRepository.deleteAll();
+    }
+
+    @Test
+    void testSummaryStoredOnSave() {
+        BlogPost saved = blogPostRepository.save(BlogPost.builder().title("Title").text(LONG_TEXT).author("testuser").build());
+
+        BlogPost reloaded = blogPostRepository.findById(saved.getBlogId()).orElseThrow();
+        Assertions.assertEquals(LONG_TEXT.substring(0, 30), reloaded.getSummary());
+        Assertions.assertEquals(LONG_TEXT.length(), reloaded.getTextLength());
+
+        reloaded.setText("Short text");
+        blogPostRepository.save(reloaded);
+
+        BlogPost updated = blogPostRepository.findById(saved.getBlogId()).orElseThrow();
+        Assertions.assertEquals("Short text", updated.getSummary());
+        Assertions.assertEquals(10, updated.getTextLength());
+    }
+
+    @Test
+    void testBackfill() {
+        for (int i = 0; i < 5; i++) {
+            blogPostRepository.save(BlogPost.builder().title("Title " + i).text(LONG_TEXT + i).author("testuser").build());
+        }
+        jdbcTemplate.update("update blog_post set summary = null, text_length = null");
+
+        Assertions.assertEquals("A text that is ...",
+                blogPostService.getFilteredBlogPosts(null, null, null, 18, PageRequest.of(0, 10)).getContent().getFirst().getText());
+
+        Assertions.assertEquals(5, summaryBackfillJob.backfill());
+
+        List<BlogPost> posts = blogPostRepository.findAll();
+        posts.forEach(post -> {
+            Assertions.assertEquals(LONG_TEXT.substring(0, 30), post.getSummary());
+            Assertions.assertEquals(LONG_TEXT.length() + 1, post.getTextLength());
+        });
+        Assertions.assertEquals(0, summaryBackfillJob.backfill());
+    }
+
+    @Test
+    void testBackfill_SkipsSummaryCutBeforeSurrogatePair() {
+        // the emoji straddles the limit of thirty characters, the stored summary stops one character short
+        String text = "x".repeat(29) + "\uD83D\uDE00" + LONG_TEXT;
+        BlogPost saved = blogPostRepository.save(BlogPost.builder().title("Title").text(text).author("testuser").build());
+        Assertions.assertEquals(29, blogPostRepository.findById(saved.getBlogId()).orElseThrow().getSummary().length());
+
+        Assertions.assertEquals(0, summaryBackfillJob.backfill());
+
+        // rows stored before the limit was recorded are rewritten once
+        jdbcTemplate.update("update blog_post set summary_limit = null");
+        Assertions.assertEquals(1, summaryBackfillJob.backfill());
+        Assertions.assertEquals(0, summaryBackfillJob.backfill());
+    }
+}
@@ -0,0 +1,126 @@
+package com.scalefocus.blogservice.service;
+
+import com.scalefocus.blogservice.dto.BulkTaggingDTO;
+import com.scalefocus.blogservice.dto.BulkTaggingRequestDTO;
+import com.scalefocus.blogservice.dto.TagMergeDTO;
+import com.scalefocus.blogservice.dto.TaggingOutcome;
+import com.scalefocus.blogservice.model.BlogPost;
+import com.scalefocus.blogservice.model.Tag;
+import com.scalefocus.blogservice.repository.BlogPostRepository;
+import com.scalefocus.blogservice.repository.TagRepository;
+import com.scalefocus.blogservice.service.implementation.TagServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+@SpringBootTest
+class TagBulkOperationsTest {
+
+    private static final int TAGGED_POSTS = 20_000;
+
+    @Autowired
+    private TagServiceImpl tagService;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long deletedTagId;
+
+    private Long keptTagId;
+
+    @BeforeEach
+    void setUp() {
+        deletedTagId = tagRepository.save(Tag.builder().tagName("popular").build()).getTagId();
+        keptTagId = tagRepository.save(Tag.builder().tagName("kept").build()).getTagId();
+
+        List<Object[]> posts = new ArrayList<>(TAGGED_POSTS);
+        for (int i = 0; i < TAGGED_POSTS; i++) {
+            posts.add(new Object[]{"Post " + i, "author"});
+        }
+        jdbcTemplate.batchUpdate("insert into blog_post (title, author) values (?, ?)", posts);
+        jdbcTemplate.update("insert into blog_post_tags (blog_post_id, tag_id) select blog_id, ? from blog_post", deletedTagId);
+        jdbcTemplate.update("insert into blog_post_tags (blog_post_id, tag_id) select min(blog_id), ? from blog_post", keptTagId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from blog_post_tags");
+        blogPostRepository.deleteAllInBatch();
+        tagRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testDeleteTag_DoesNotLoadTaggedPosts() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        tagService.deleteTag("popular");
+
+        // the posts and the tag's post collection stay in the database, however many there are
+        Assertions.assertEquals(0, statistics.getEntityStatistics(BlogPost.class.getName()).getLoadCount());
+        Assertions.assertEquals(0, statistics.getCollectionLoadCount());
+        Assertions.assertFalse(tagRepository.findByTagName("popular").isPresent());
+        Assertions.assertEquals(0, jdbcTemplate.queryForObject("select count(*) from blog_post_tags where tag_id = ?", Integer.class, deletedTagId));
+        Assertions.assertEquals(1, jdbcTemplate.queryForObject("select count(*) from blog_post_tags where tag_id = ?", Integer.class, keptTagId));
+        Assertions.assertEquals(TAGGED_POSTS, blogPostRepository.count());
+    }
+
+    @Test
+    void testMergeTags_MovesLinksWithoutLoadingPosts() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        TagMergeDTO merged = tagService.mergeTags("popular", "kept");
+
+        Assertions.assertEquals("kept", merged.tag().tagName());
+        Assertions.assertEquals(TAGGED_POSTS - 1, merged.postsMoved());
+        Assertions.assertEquals(1, merged.postsAlreadyTagged());
+        Assertions.assertEquals(0, statistics.getEntityStatistics(BlogPost.class.getName()).getLoadCount());
+        Assertions.assertEquals(0, statistics.getCollectionLoadCount());
+        Assertions.assertFalse(tagRepository.findByTagName("popular").isPresent());
+        Assertions.assertEquals(TAGGED_POSTS, jdbcTemplate.queryForObject("select count(*) from blog_post_tags where tag_id = ?", Integer.class, keptTagId));
+        Assertions.assertEquals(TAGGED_POSTS, jdbcTemplate.queryForObject("select count(*) from blog_post_tags", Integer.class));
+    }
+
+    @Test
+    void testTagBlogPosts_ChunkedByIdWithoutLoadingPosts() {
+        long firstId = jdbcTemplate.queryForObject("select min(blog_id) from blog_post", Long.class);
+        // the kept post is already tagged, the last ID does not exist
+        List<Long> ids = new ArrayList<>(LongStream.range(firstId, firstId + 999).boxed().toList());
+        ids.add(-1L);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        BulkTaggingDTO result = tagService.tagBlogPosts("kept", new BulkTaggingRequestDTO(ids, null, null));
+
+        Assertions.assertEquals(998, result.changed());
+        Assertions.assertEquals(TaggingOutcome.ALREADY_TAGGED, result.outcomes().get(0).outcome());
+        Assertions.assertEquals(TaggingOutcome.NOT_FOUND, result.outcomes().get(999).outcome());
+        Assertions.assertEquals(0, statistics.getEntityStatistics(BlogPost.class.getName()).getLoadCount());
+        Assertions.assertEquals(999, jdbcTemplate.queryForObject("select count(*) from blog_post_tags where tag_id = ?", Integer.class, keptTagId));
+
+        BulkTaggingDTO untagged = tagService.untagBlogPosts("kept", new BulkTaggingRequestDTO(null, "kept", null));
+        Assertions.assertEquals(999, untagged.changed());
+        Assertions.assertEquals(0, jdbcTemplate.queryForObject("select count(*) from blog_post_tags where tag_id = ?", Integer.class, keptTagId));
+    }
+}
@@ -1,11 +1,16 @@
 package com.scalefocus.blogservice.service;
 
 
+import com.scalefocus.blogservice.config.TagProperties;
+import com.scalefocus.blogservice.dto.BulkTaggingDTO;
+import com.scalefocus.blogservice.dto.BulkTaggingRequestDTO;
 import com.scalefocus.blogservice.dto.ResponseTagDTO;
+import com.scalefocus.blogservice.dto.TaggingOutcome;
+import com.scalefocus.blogservice.dto.TagMergeDTO;
 import com.scalefocus.blogservice.exceptions.TagAlreadyExistsException;
 import com.scalefocus.blogservice.exceptions.TagNotFoundException;
-import com.scalefocus.blogservice.model.BlogPost;
 import com.scalefocus.blogservice.model.Tag;
+import com.scalefocus.blogservice.repository.BlogPostRepository;
 import com.scalefocus.blogservice.repository.TagRepository;
 import com.scalefocus.blogservice.service.implementation.TagServiceImpl;
 import org.junit.jupiter.api.Assertions;
@@ -15,12 +20,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.times;
 
@@ -29,12 +37,19 @@ import static org.mockito.Mockito.times;
 @MockitoSettings(strictness = Strictness.LENIENT)
 class TagServiceTest {
     private TagRepository tagRepository;
+    private BlogPostRepository blogPostRepository;
     private TagServiceImpl tagService;
 
     @BeforeEach
     public void setUp() {
         tagRepository = mock(TagRepository.class);
-        tagService = new TagServiceImpl(tagRepository);
+        blogPostRepository = mock(BlogPostRepository.class);
+        TagProperties tagProperties = new TagProperties();
+        tagProperties.setUnlinkBatchSize(2);
+        tagProperties.setBulkBatchSize(2);
+        tagProperties.setBulkMaxPosts(5);
+        tagService = new TagServiceImpl(tagRepository, blogPostRepository, tagProperties,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
     }
 
     @Test
@@ -72,11 +87,11 @@ class TagServiceTest {
         Tag tag1 = Tag.builder().tagName("Tag1").build();
         Tag tag2 = Tag.builder().tagName("Tag2").build();
 
-        when(tagRepository.findAll()).thenReturn(List.of(tag1, tag2));
+        when(tagRepository.findAllReadOnly()).thenReturn(List.of(tag1, tag2));
 
         List<ResponseTagDTO> tags = tagService.getAllTags();
 
-        verify(tagRepository, times(1)).findAll();
+        verify(tagRepository, times(1)).findAllReadOnly();
 
         Assertions.assertEquals(2, tags.size());
         Assertions.assertEquals("Tag1", tags.get(0).tagName());
@@ -85,24 +100,32 @@ class TagServiceTest {
 
     @Test
     void testDeleteBlogPost() {
-        BlogPost blogPost = BlogPost.builder().title("Test title").text("Test content").build();
+        Tag tag = Tag.builder().tagId(7L).tagName("Tag 1").build();
 
+        when(tagRepository.findByTagName("Tag 1")).thenReturn(Optional.of(tag));
+        when(tagRepository.deleteBlogPostLinks(7L, 2)).thenReturn(2, 2, 1);
+        when(tagRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(tag));
+        tagService.deleteTag("Tag 1");
+        verify(tagRepository, times(3)).deleteBlogPostLinks(7L, 2);
+        verify(tagRepository, times(1)).deleteAllBlogPostLinks(7L);
+        verify(tagRepository, times(1)).delete(tag);
+    }
 
-        blogPost.setBlogId(1L);
-        BlogPost blogPost2 = BlogPost.builder().title("Test title 2").text("Test content 2").build();
-
-        blogPost2.setBlogId(2L);
-
-        Tag tag = Tag.builder().tagName("Tag 1").build();
-        tag.setBlogPosts(new ArrayList<>(Arrays.asList(blogPost, blogPost2)));
-        blogPost.setTags(new ArrayList<>(Collections.singletonList(tag)));
-        blogPost2.setTags(new ArrayList<>(Collections.singletonList(tag)));
+    @Test
+    void testDeleteTag_LinkAddedDuringSweep() {
+        Tag tag = Tag.builder().tagId(7L).tagName("Tag 1").build();
 
         when(tagRepository.findByTagName("Tag 1")).thenReturn(Optional.of(tag));
+        when(tagRepository.deleteBlogPostLinks(7L, 2)).thenReturn(1);
+        when(tagRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(tag));
+        when(tagRepository.deleteAllBlogPostLinks(7L)).thenReturn(1);
         tagService.deleteTag("Tag 1");
-        verify(tagRepository, times(1)).delete(tag);
-        Assertions.assertFalse(blogPost.getTags().contains(tag));
-        Assertions.assertFalse(blogPost2.getTags().contains(tag));
+
+        // the late link goes in the same transaction as the tag, before it
+        var inOrder = inOrder(tagRepository);
+        inOrder.verify(tagRepository).findByIdForUpdate(7L);
+        inOrder.verify(tagRepository).deleteAllBlogPostLinks(7L);
+        inOrder.verify(tagRepository).delete(tag);
     }
 
     @Test
@@ -112,4 +135,132 @@ class TagServiceTest {
         verify(tagRepository, never()).delete(any(Tag.class));
     }
 
+    @Test
+    void testMergeTags() {
+        Tag from = Tag.builder().tagId(1L).tagName("Java").build();
+        Tag to = Tag.builder().tagId(2L).tagName("java").build();
+
+        when(tagRepository.findByTagName("Java")).thenReturn(Optional.of(from));
+        when(tagRepository.findByTagName("java")).thenReturn(Optional.of(to));
+        when(tagRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(from));
+        when(tagRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(to));
+        when(tagRepository.deleteBlogPostLinksAlsoTaggedWith(1L, 2L)).thenReturn(3);
+        when(tagRepository.moveBlogPostLinks(1L, 2L)).thenReturn(10);
+
+        TagMergeDTO result = tagService.mergeTags("Java", "java");
+
+        Assertions.assertEquals("java", result.tag().tagName());
+        Assertions.assertEquals(10, result.postsMoved());
+        Assertions.assertEquals(3, result.postsAlreadyTagged());
+        var inOrder = inOrder(tagRepository);
+        inOrder.verify(tagRepository).findByIdForUpdate(1L);
+        inOrder.verify(tagRepository).findByIdForUpdate(2L);
+        inOrder.verify(tagRepository).moveBlogPostLinks(1L, 2L);
+        verify(tagRepository).delete(from);
+        verify(tagRepository, never()).delete(to);
+    }
+
+    @Test
+    void testMergeTags_LocksLowerIdFirst() {
+        Tag from = Tag.builder().tagId(9L).tagName("Java").build();
+        Tag to = Tag.builder().tagId(2L).tagName("java").build();
+
+        when(tagRepository.findByTagName("Java")).thenReturn(Optional.of(from));
+        when(tagRepository.findByTagName("java")).thenReturn(Optional.of(to));
+        when(tagRepository.findByIdForUpdate(9L)).thenReturn(Optional.of(from));
+        when(tagRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(to));
+
+        tagService.mergeTags("Java", "java");
+
+        var inOrder = inOrder(tagRepository);
+        inOrder.verify(tagRepository).findByIdForUpdate(2L);
+        inOrder.verify(tagRepository).findByIdForUpdate(9L);
+        inOrder.verify(tagRepository).moveBlogPostLinks(9L, 2L);
+    }
+
+    @Test
+    void testMergeTags_TargetDeletedConcurrently() {
+        Tag from = Tag.builder().tagId(1L).tagName("Java").build();
+        Tag to = Tag.builder().tagId(2L).tagName("java").build();
+
+        when(tagRepository.findByTagName("Java")).thenReturn(Optional.of(from));
+        when(tagRepository.findByTagName("java")).thenReturn(Optional.of(to));
+        when(tagRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(from));
+        when(tagRepository.findByIdForUpdate(2L)).thenReturn(Optional.empty());
+
+        assertThrows(TagNotFoundException.class, () -> tagService.mergeTags("Java", "java"));
+        verify(tagRepository, never()).moveBlogPostLinks(any(), any());
+    }
+
+    @Test
+    void testMergeTags_IntoItself() {
+        assertThrows(IllegalArgumentException.class, () -> tagService.mergeTags("java", "java"));
+        verify(tagRepository, never()).moveBlogPostLinks(any(), any());
+    }
+
+    @Test
+    void testMergeTags_TargetNotFound() {
+        when(tagRepository.findByTagName("Java")).thenReturn(Optional.of(Tag.builder().tagId(1L).tagName("Java").build()));
+        when(tagRepository.findByTagName("java")).thenReturn(Optional.empty());
+
+        assertThrows(TagNotFoundException.class, () -> tagService.mergeTags("Java", "java"));
+        verify(tagRepository, never()).moveBlogPostLinks(any(), any());
+        verify(tagRepository, never()).delete(any(Tag.class));
+    }
+
+    @Test
+    void testTagBlogPosts_ById() {
+        Tag tag = Tag.builder().tagId(7L).tagName("java").build();
+        when(tagRepository.findByTagName("java")).thenReturn(Optional.of(tag));
+        // batch size 2: [1, 2] and [3, 4]
+        when(blogPostRepository.findExistingIds(List.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+        when(blogPostRepository.findExistingIds(List.of(3L, 4L))).thenReturn(List.of(3L));
+        when(tagRepository.findTaggedBlogPostIds(7L, List.of(1L, 2L))).thenReturn(List.of(2L));
+        when(tagRepository.findTaggedBlogPostIds(7L, List.of(3L, 4L))).thenReturn(List.of());
+
+        BulkTaggingDTO result = tagService.tagBlogPosts("java", new BulkTaggingRequestDTO(List.of(1L, 2L, 3L, 4L, 1L), null, null));
+
+        verify(tagRepository).attachBlogPosts(7L, List.of(1L, 2L));
+        verify(tagRepository).attachBlogPosts(7L, List.of(3L, 4L));
+        Assertions.assertEquals(2, result.changed());
+        Assertions.assertEquals(List.of(
+                new BulkTaggingDTO.PostOutcome(1L, TaggingOutcome.ADDED),
+                new BulkTaggingDTO.PostOutcome(2L, TaggingOutcome.ALREADY_TAGGED),
+                new BulkTaggingDTO.PostOutcome(3L, TaggingOutcome.ADDED),
+                new BulkTaggingDTO.PostOutcome(4L, TaggingOutcome.NOT_FOUND)), result.outcomes());
+    }
+
+    @Test
+    void testUntagBlogPosts_ByFilter() {
+        Tag tag = Tag.builder().tagId(7L).tagName("java").build();
+        when(tagRepository.findByTagName("java")).thenReturn(Optional.of(tag));
+        when(blogPostRepository.findIds(any(), any(), anyInt())).thenReturn(List.of(1L, 2L));
+        when(blogPostRepository.findExistingIds(List.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+        when(tagRepository.findTaggedBlogPostIds(7L, List.of(1L, 2L))).thenReturn(List.of(1L));
+
+        BulkTaggingDTO result = tagService.untagBlogPosts("java", new BulkTaggingRequestDTO(null, "spring", "even"));
+
+        verify(tagRepository).detachBlogPosts(7L, List.of(1L, 2L));
+        Assertions.assertEquals(1, result.changed());
+        Assertions.assertEquals(TaggingOutcome.REMOVED, result.outcomes().get(0).outcome());
+        Assertions.assertEquals(TaggingOutcome.NOT_TAGGED, result.outcomes().get(1).outcome());
+    }
+
+    @Test
+    void testTagBlogPosts_IdsAndFilter() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> tagService.tagBlogPosts("java", new BulkTaggingRequestDTO(List.of(1L), "spring", null)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> tagService.tagBlogPosts("java", new BulkTaggingRequestDTO(null, null, null)));
+        verify(tagRepository, never()).attachBlogPosts(any(), any());
+    }
+
+    @Test
+    void testTagBlogPosts_TooManyPosts() {
+        when(blogPostRepository.findIds(any(), any(), anyInt())).thenReturn(List.of(1L, 2L, 3L, 4L, 5L, 6L));
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> tagService.tagBlogPosts("java", new BulkTaggingRequestDTO(null, "spring", null)));
+        verify(tagRepository, never()).attachBlogPosts(any(), any());
+    }
 }
@@ -0,0 +1,68 @@
+package com.scalefocus.blogservice.service;
+
+import com.scalefocus.blogservice.service.implementation.TokenBucket;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void testBurstUpToCapacity_ThenRefillRate() {
+        TokenBucket bucket = new TokenBucket(3, 2);
+        long now = 42 * SECOND;
+
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(0, bucket.tryConsume(now));
+        }
+        Assertions.assertEquals(SECOND / 2, bucket.tryConsume(now));
+
+        Assertions.assertEquals(0, bucket.tryConsume(now + SECOND / 2));
+        Assertions.assertTrue(bucket.tryConsume(now + SECOND / 2) > 0);
+    }
+
+    @Test
+    void testIdleBucket_RefillsToCapacityOnly() {
+        TokenBucket bucket = new TokenBucket(2, 10);
+        long now = -5 * SECOND;
+        bucket.tryConsume(now);
+
+        long later = now + 60 * SECOND;
+        Assertions.assertEquals(0, bucket.tryConsume(later));
+        Assertions.assertEquals(0, bucket.tryConsume(later));
+        Assertions.assertTrue(bucket.tryConsume(later) > 0);
+    }
+
+    @Test
+    void testConcurrentConsumers_NeverExceedCapacity() throws Exception {
+        TokenBucket bucket = new TokenBucket(1000, 0.001);
+        long now = System.nanoTime();
+        AtomicInteger granted = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                executor.execute(() -> {
+                    for (int j = 0; j < 500; j++) {
+                        if (bucket.tryConsume(now) == 0) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+
+        Assertions.assertEquals(1000, granted.get());
+    }
+
+    @Test
+    void testInvalidBudget() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 0));
+    }
+}
@@ -0,0 +1,154 @@
+package com.scalefocus.blogservice.service;
+
+import com.scalefocus.blogservice.dto.UserPurgeJobDTO;
+import com.scalefocus.blogservice.model.BlogPost;
+import com.scalefocus.blogservice.model.Tag;
+import com.scalefocus.blogservice.model.UserPurgeJob;
+import com.scalefocus.blogservice.model.UserPurgeStatus;
+import com.scalefocus.blogservice.repository.BlogPostRepository;
+import com.scalefocus.blogservice.repository.TagRepository;
+import com.scalefocus.blogservice.repository.UserPurgeJobRepository;
+import com.scalefocus.blogservice.service.implementation.UserPurgeServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@SpringBootTest(properties = {"blog.purge.batch-size=3", "blog.purge.batch-pause=0ms"})
+class UserPurgeServiceTest {
+
+    private static final int PURGED_POSTS = 8;
+
+    @Autowired
+    private UserPurgeServiceImpl userPurgeService;
+
+    @Autowired
+    private UserPurgeJobRepository userPurgeJobRepository;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Tag java = tagRepository.save(Tag.builder().tagName("java").build());
+            for (int i = 0; i < PURGED_POSTS; i++) {
+                blogPostRepository.save(post("purged", java));
+            }
+            blogPostRepository.save(post("kept", java));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        userPurgeJobRepository.deleteAll();
+        blogPostRepository.deleteAll();
+        tagRepository.deleteAll();
+    }
+
+    @Test
+    void testSchedulePurge() throws InterruptedException {
+        UserPurgeJobDTO scheduled = userPurgeService.schedulePurge("purged");
+        Assertions.assertNull(scheduled.postsRemaining());
+
+        UserPurgeJobDTO finished = awaitFinished(scheduled.jobId());
+
+        Assertions.assertEquals("COMPLETED", finished.status());
+        Assertions.assertEquals(PURGED_POSTS, finished.postsDeleted());
+        Assertions.assertEquals(0L, finished.postsRemaining());
+        Assertions.assertNotNull(finished.timeFinished());
+        Assertions.assertEquals(0, blogPostRepository.countByAuthor("purged"));
+        Assertions.assertEquals(1, blogPostRepository.countByAuthor("kept"));
+        Assertions.assertEquals(1, jdbcTemplate.queryForObject("select count(*) from blog_post_tags", Integer.class));
+    }
+
+    @Test
+    void testResumeUnfinished() throws InterruptedException {
+        // a job that was interrupted after its first batch
+        List<Long> firstBatch = blogPostRepository.findIdsByAuthor("purged", PageRequest.ofSize(3));
+        jdbcTemplate.update("delete from blog_post_tags where blog_post_id in (?, ?, ?)", firstBatch.toArray());
+        jdbcTemplate.update("delete from blog_post where blog_id in (?, ?, ?)", firstBatch.toArray());
+        UserPurgeJob job = userPurgeJobRepository.save(UserPurgeJob.builder()
+                .username("purged")
+                .status(UserPurgeStatus.RUNNING)
+                .postsDeleted(3)
+                .build());
+
+        userPurgeService.resumeUnfinished();
+
+        UserPurgeJobDTO finished = awaitFinished(job.getJobId());
+        Assertions.assertEquals("COMPLETED", finished.status());
+        Assertions.assertEquals(PURGED_POSTS, finished.postsDeleted());
+        Assertions.assertEquals(0, blogPostRepository.countByAuthor("purged"));
+    }
+
+    @Test
+    void testScheduleReusesUnfinishedJob() throws InterruptedException {
+        UserPurgeJob job = userPurgeJobRepository.save(UserPurgeJob.builder()
+                .username("someone-else")
+                .status(UserPurgeStatus.PENDING)
+                .build());
+
+        Assertions.assertEquals(job.getJobId(), userPurgeService.schedulePurge("someone-else").jobId());
+        Assertions.assertEquals("COMPLETED", awaitFinished(job.getJobId()).status());
+    }
+
+    @Test
+    void testGetJobs_PagesNewestFirstWithoutCountingFinishedJobs() {
+        List<Long> jobIds = new ArrayList<>();
+        for (UserPurgeStatus status : List.of(UserPurgeStatus.COMPLETED, UserPurgeStatus.FAILED, UserPurgeStatus.COMPLETED)) {
+            jobIds.add(userPurgeJobRepository.save(UserPurgeJob.builder()
+                    .username("purged")
+                    .status(status)
+                    .postsDeleted(2)
+                    .build()).getJobId());
+        }
+
+        List<UserPurgeJobDTO> firstPage = userPurgeService.getJobs(null, 2);
+        Assertions.assertEquals(List.of(jobIds.get(2), jobIds.get(1)), firstPage.stream().map(UserPurgeJobDTO::jobId).toList());
+        Assertions.assertEquals(0L, firstPage.get(0).postsRemaining());
+        // the failed job reports its stored progress, the posts it left are not counted
+        Assertions.assertEquals(2, firstPage.get(1).postsDeleted());
+        Assertions.assertNull(firstPage.get(1).postsRemaining());
+
+        List<UserPurgeJobDTO> secondPage = userPurgeService.getJobs(jobIds.get(1), 2);
+        Assertions.assertEquals(List.of(jobIds.get(0)), secondPage.stream().map(UserPurgeJobDTO::jobId).toList());
+    }
+
+    private UserPurgeJobDTO awaitFinished(Long jobId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            UserPurgeJobDTO job = userPurgeService.getJob(jobId);
+            if (!job.status().equals("PENDING") && !job.status().equals("RUNNING")) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+        return Assertions.fail("Purge job " + jobId + " did not finish");
+    }
+
+    private static BlogPost post(String author, Tag tag) {
+        return BlogPost.builder()
+                .title("Post of " + author)
+                .text("Text of a post of " + author)
+                .author(author)
+                .tags(new ArrayList<>(List.of(tag)))
+                .build();
+    }
+}
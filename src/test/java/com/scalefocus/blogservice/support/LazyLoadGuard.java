@@ -0,0 +1,53 @@
+package com.scalefocus.blogservice.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fails a test when the code under test initializes a lazy collection it is not expected to touch, e.g. when an
+ * {@code equals} or {@code toString} walks {@code Tag.blogPosts}. Relies on {@code hibernate.generate_statistics}.
+ */
+public final class LazyLoadGuard {
+
+    private LazyLoadGuard() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static String role(Class<?> entity, String collection) {
+        return entity.getName() + "." + collection;
+    }
+
+    /**
+     * Runs {@code action} and fails if it lazily fetched any collection other than {@code allowedRoles}.
+     */
+    public static <T> T allowingOnly(EntityManagerFactory entityManagerFactory, Supplier<T> action, String... allowedRoles) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        assertTrue(statistics.isStatisticsEnabled(), "Hibernate statistics are disabled, enable hibernate.generate_statistics");
+        statistics.clear();
+
+        T result = action.get();
+
+        List<String> allowed = Arrays.asList(allowedRoles);
+        List<String> unexpected = Arrays.stream(statistics.getCollectionRoleNames())
+                .filter(role -> !allowed.contains(role))
+                .filter(role -> statistics.getCollectionStatistics(role).getFetchCount() > 0)
+                .map(role -> role + " (" + statistics.getCollectionStatistics(role).getFetchCount() + "x)")
+                .toList();
+        assertTrue(unexpected.isEmpty(), "Unexpected lazy collection initialization: " + unexpected);
+        return result;
+    }
+
+    public static void noneAllowed(EntityManagerFactory entityManagerFactory, Runnable action) {
+        allowingOnly(entityManagerFactory, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
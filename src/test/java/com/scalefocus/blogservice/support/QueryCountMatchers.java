@@ -0,0 +1,35 @@
+package com.scalefocus.blogservice.support;
+
+import com.scalefocus.blogservice.monitoring.QueryStatistics;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class QueryCountMatchers {
+
+    private QueryCountMatchers() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static ResultMatcher maxQueries(int max) {
+        return result -> {
+            int executed = queryCount(result);
+            assertTrue(executed <= max, String.format("Expected at most %d SQL statements for %s but %d were executed",
+                    max, result.getRequest().getRequestURI(), executed));
+        };
+    }
+
+    public static ResultMatcher queries(int expected) {
+        return result -> assertEquals(expected, queryCount(result),
+                "Unexpected number of SQL statements for " + result.getRequest().getRequestURI());
+    }
+
+    public static int queryCount(MvcResult result) {
+        QueryStatistics statistics = (QueryStatistics) result.getRequest().getAttribute(QueryStatistics.REQUEST_ATTRIBUTE);
+        assertNotNull(statistics, "No query statistics recorded, is the QueryTimingFilter registered with MockMvc?");
+        return statistics.getQueryCount();
+    }
+}